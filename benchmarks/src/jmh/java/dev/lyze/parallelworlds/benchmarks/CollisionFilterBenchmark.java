@@ -0,0 +1,142 @@
+package dev.lyze.parallelworlds.benchmarks;
+
+import com.dongbat.jbump.CollisionFilter;
+import com.dongbat.jbump.Item;
+import com.dongbat.jbump.Response;
+import dev.lyze.parallelworlds.headless.HeadlessGame;
+import dev.lyze.parallelworlds.headless.HeadlessLevel;
+import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
+import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.impl.BatEnemy;
+import dev.lyze.parallelworlds.screens.game.entities.filters.BatEnemyCollisionFilter;
+import dev.lyze.parallelworlds.screens.game.entities.filters.PlayerCollisionFilter;
+import dev.lyze.parallelworlds.screens.game.entities.impl.EnemyBarrierTile;
+import dev.lyze.parallelworlds.screens.game.entities.impl.PortalDirectionTile;
+import dev.lyze.parallelworlds.screens.game.entities.impl.PortalTile;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+// the instanceof variants are the filters before the category tables, kept here as the baseline
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionFilterBenchmark {
+    @Param({"Nsyse_Tutorial", "Lyze_1", "Nsyse_1", "Nsyse_2", "Nsyse_3", "Borazilla_1"})
+    private String mapPath;
+
+    private HeadlessLevel headlessLevel;
+
+    private Item playerItem;
+    private Item batItem;
+    private final ArrayList<Item> others = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessGame.boot();
+
+        headlessLevel = new HeadlessLevel(mapPath);
+        var level = headlessLevel.getLevel();
+        var map = level.getMap();
+
+        var player = level.getPlayers().getFirePlayer();
+        playerItem = player.getItem();
+        batItem = level.islandOf(player).getEntities().stream().filter(e -> e instanceof BatEnemy).map(e -> (Item) e.getItem()).findFirst().orElse(playerItem);
+
+        level.islandOf(player).getWorld().queryRect(0, 0, map.getMapWidth(), map.getMapHeight(), CollisionFilter.defaultFilter, others);
+        others.add(map.getCollisionGrid().getGroundItem());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        headlessLevel.dispose();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void playerFilter(Blackhole blackhole) {
+        for (int i = 0; i < 1000; i++)
+            blackhole.consume(PlayerCollisionFilter.instance.filter(playerItem, others.get(i % others.size())));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void batFilter(Blackhole blackhole) {
+        for (int i = 0; i < 1000; i++)
+            blackhole.consume(BatEnemyCollisionFilter.instance.filter(batItem, others.get(i % others.size())));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void instanceofPlayerFilter(Blackhole blackhole) {
+        for (int i = 0; i < 1000; i++)
+            blackhole.consume(InstanceofPlayerFilter.instance.filter(playerItem, others.get(i % others.size())));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void instanceofBatFilter(Blackhole blackhole) {
+        for (int i = 0; i < 1000; i++)
+            blackhole.consume(InstanceofBatFilter.instance.filter(batItem, others.get(i % others.size())));
+    }
+
+    private static class InstanceofPlayerFilter implements CollisionFilter {
+        private static final InstanceofPlayerFilter instance = new InstanceofPlayerFilter();
+
+        @Override
+        public Response filter(Item item, Item other) {
+            if (!(item.userData instanceof Player))
+                return null;
+
+            if (other.userData instanceof PortalDirectionTile)
+                return Response.cross;
+
+            if (other.userData instanceof PortalTile) {
+                var portal = (PortalTile) other.userData;
+                if (portal.getColor() == null || portal.getColor() == ((Player) item.userData).getColor())
+                    return Response.cross;
+
+                return Response.slide;
+            }
+
+            if (other.userData instanceof EnemyBarrierTile)
+                return null;
+
+            if (other.userData instanceof TileEntity)
+                return ((TileEntity) other.userData).isHitbox() ? Response.slide : Response.cross;
+
+            if (other.userData instanceof Player)
+                return Response.slide;
+
+            return null;
+        }
+    }
+
+    private static class InstanceofBatFilter implements CollisionFilter {
+        private static final InstanceofBatFilter instance = new InstanceofBatFilter();
+
+        @Override
+        public Response filter(Item item, Item other) {
+            if (other.userData instanceof TileEntity) {
+                var tileEntity = (TileEntity) other.userData;
+                if (tileEntity.isHitbox())
+                    return Response.slide;
+
+                if (tileEntity instanceof PortalDirectionTile)
+                    return Response.slide;
+
+                return null;
+            }
+
+            if (other.userData instanceof Player)
+                return Response.cross;
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package dev.lyze.parallelworlds.benchmarks;
+
+import dev.lyze.parallelworlds.headless.HeadlessGame;
+import dev.lyze.parallelworlds.headless.HeadlessLevel;
+import dev.lyze.parallelworlds.screens.game.ForkJoinIslandScheduler;
+import dev.lyze.parallelworlds.screens.game.SerialIslandScheduler;
+import dev.lyze.parallelworlds.statics.Statics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelUpdateBenchmark {
+    private static final float TICK = 0.01f;
+    private static final int TICKS_PER_INVOCATION = 100;
+
+    @Param({"Nsyse_Tutorial", "Lyze_1", "Nsyse_1", "Nsyse_2", "Nsyse_3", "Borazilla_1"})
+    private String mapPath;
+
+    // ticks the two islands one after the other or next to each other on the common pool
+    @Param({"serial", "forkJoin"})
+    private String islands;
+
+    private HeadlessLevel headlessLevel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessGame.boot();
+
+        Statics.islandScheduler = islands.equals("forkJoin") ? new ForkJoinIslandScheduler(ForkJoinPool.commonPool()) : new SerialIslandScheduler();
+        headlessLevel = null;
+    }
+
+    @Setup(Level.Invocation)
+    public void restartIfFinished() {
+        if (headlessLevel != null && !headlessLevel.isFinished())
+            return;
+
+        if (headlessLevel != null)
+            headlessLevel.dispose();
+
+        headlessLevel = new HeadlessLevel(mapPath);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS_PER_INVOCATION)
+    public void tick() {
+        for (int i = 0; i < TICKS_PER_INVOCATION; i++)
+            headlessLevel.step(TICK);
+    }
+}
@@ -0,0 +1,71 @@
+package dev.lyze.parallelworlds.benchmarks;
+
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import dev.lyze.parallelworlds.headless.HeadlessGame;
+import dev.lyze.parallelworlds.screens.game.GameContext;
+import dev.lyze.parallelworlds.screens.game.LevelHost;
+import dev.lyze.parallelworlds.screens.game.audio.MutedLevelAudio;
+import dev.lyze.parallelworlds.screens.game.map.MapEntitiesCreation;
+import dev.lyze.parallelworlds.statics.Statics;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapSetupBenchmark implements LevelHost {
+    @Param({"Nsyse_Tutorial", "Lyze_1", "Nsyse_1", "Nsyse_2", "Nsyse_3", "Borazilla_1"})
+    private String mapPath;
+
+    private TiledMap tiledMap;
+    private dev.lyze.parallelworlds.screens.game.Level level;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        HeadlessGame.boot();
+
+        tiledMap = Statics.assets.getGame().get(mapPath);
+        createLevel().initialize();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        level = createLevel();
+        level.getMap().setupFields();
+    }
+
+    @Benchmark
+    public int setupCollisions() {
+        level.getMap().setupCollisions();
+        return level.getMap().getGroundColliderCount();
+    }
+
+    @Benchmark
+    public int entitiesCreation() {
+        new MapEntitiesCreation(level, level.getMap()).initialize();
+        return level.countWorldItems();
+    }
+
+    @Benchmark
+    public dev.lyze.parallelworlds.screens.game.Level levelInitialize() {
+        var level = createLevel();
+        level.initialize();
+        return level;
+    }
+
+    private dev.lyze.parallelworlds.screens.game.Level createLevel() {
+        return new dev.lyze.parallelworlds.screens.game.Level(new GameContext(Statics.assets), this, tiledMap, new MutedLevelAudio());
+    }
+
+    @Override
+    public void restartLevel() {
+    }
+
+    @Override
+    public void nextLevel(String mapPath) {
+    }
+}
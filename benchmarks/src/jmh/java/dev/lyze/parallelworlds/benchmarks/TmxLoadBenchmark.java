@@ -0,0 +1,70 @@
+package dev.lyze.parallelworlds.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.XmlReader;
+import dev.lyze.parallelworlds.headless.HeadlessGame;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.StreamingTmxReader;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.TileSetDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.TiledMapFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// run with -PjmhProfilers=gc to get the allocated bytes per map next to the parse times
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TmxLoadBenchmark {
+    @Param({"Nsyse_Tutorial", "Lyze_1", "Nsyse_1", "Nsyse_2", "Nsyse_3", "Borazilla_1"})
+    private String mapPath;
+
+    private FileHandle file;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        HeadlessGame.boot();
+
+        file = Gdx.files.internal("maps/" + mapPath + ".tmx");
+    }
+
+    @Benchmark
+    public XmlReader.Element xmlDomParse() {
+        return new XmlReader().parse(file);
+    }
+
+    @Benchmark
+    public MapDescriptor streamingParse() {
+        return new StreamingTmxReader().read(file);
+    }
+
+    @Benchmark
+    public int tmxMapLoader() {
+        var map = new TmxMapLoader().load(file.path());
+        var layers = map.getLayers().size();
+        map.dispose();
+        return layers;
+    }
+
+    @Benchmark
+    public int streamingLoader() {
+        var descriptor = new StreamingTmxReader().read(file);
+
+        var textures = new ObjectMap<String, Texture>();
+        for (TileSetDescriptor tileSet : descriptor.getTileSets())
+            textures.put(tileSet.getImageSource(), new Texture(file.parent().child(tileSet.getImageSource())));
+
+        TiledMap map = TiledMapFactory.create(descriptor, textures);
+        var layers = map.getLayers().size();
+        textures.values().forEach(Texture::dispose);
+        return layers;
+    }
+}
@@ -0,0 +1,83 @@
+package dev.lyze.parallelworlds.benchmarks;
+
+import com.dongbat.jbump.Collisions;
+import com.dongbat.jbump.World;
+import dev.lyze.parallelworlds.headless.HeadlessGame;
+import dev.lyze.parallelworlds.headless.HeadlessLevel;
+import dev.lyze.parallelworlds.screens.game.collision.CollisionGrid;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.filters.PlayerCollisionFilter;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorldMoveBenchmark {
+    @Param({"Nsyse_Tutorial", "Lyze_1", "Nsyse_1", "Nsyse_2", "Nsyse_3", "Borazilla_1"})
+    private String mapPath;
+
+    // ground in the collision grid, or as merged boxes or one item per tile in the jbump world
+    @Param({"grid", "merged", "unmerged"})
+    private String colliders;
+
+    private HeadlessLevel headlessLevel;
+    private World<Entity> world;
+    private CollisionGrid grid;
+    private Player player;
+
+    private final Collisions collisions = new Collisions();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessGame.boot();
+
+        headlessLevel = new HeadlessLevel(mapPath, 0, map -> {
+            map.setUseCollisionGrid(colliders.equals("grid"));
+            map.setMergeColliders(!colliders.equals("unmerged"));
+        });
+        player = headlessLevel.getLevel().getPlayers().getFirePlayer();
+        world = headlessLevel.getLevel().islandOf(player).getWorld();
+        grid = headlessLevel.getLevel().getMap().getCollisionGrid();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        headlessLevel.dispose();
+    }
+
+    @Benchmark
+    public int project() {
+        var position = player.getPosition();
+        collisions.clear();
+        world.project(player.getItem(), position.x, position.y, player.getWidth(), player.getHeight(), position.x, position.y - 0.1f, PlayerCollisionFilter.instance, collisions);
+        return collisions.size();
+    }
+
+    @Benchmark
+    public float move() {
+        var position = player.getPosition();
+        var response = world.move(player.getItem(), position.x + 0.05f, position.y - 0.05f, PlayerCollisionFilter.instance);
+        world.update(player.getItem(), position.x, position.y);
+        return response.goalX + response.goalY;
+    }
+
+    @Benchmark
+    public float gridMove() {
+        var position = player.getPosition();
+        var moveX = grid.moveX(position.x, position.y, player.getWidth(), player.getHeight(), 0.05f);
+        var moveY = grid.moveY(position.x + moveX, position.y, player.getWidth(), player.getHeight(), -0.05f);
+        return moveX + moveY;
+    }
+
+    @Benchmark
+    public boolean gridGroundCheck() {
+        var position = player.getPosition();
+        return grid.overlaps(position.x, position.y - 0.1f, player.getWidth(), player.getHeight());
+    }
+}
@@ -50,23 +50,34 @@ public class Logger<TClass> {
     }
 
     private void log(Level level, String message, Exception exception) {
-        var time = " (" + Gdx.graphics.getFrameId() + ") ";
+        var time = " (" + getFrameId() + ") ";
 
-        if (level == Level.Debug)
+        if (Gdx.app == null) {
+            System.out.println("[" + level + "] " + prefix + time + message);
+            if (exception != null)
+                exception.printStackTrace(System.out);
+        }
+        else if (level == Level.Debug)
             Gdx.app.debug(level.toString(), prefix + time + message, exception);
         else
             Gdx.app.log(level.toString(), prefix + time + message, exception);
     }
 
     private void log(Level level, String message) {
-        var time = " (" + Gdx.graphics.getFrameId() + ") ";
+        var time = " (" + getFrameId() + ") ";
 
-        if (level == Level.Debug)
+        if (Gdx.app == null)
+            System.out.println("[" + level + "] " + prefix + time + message);
+        else if (level == Level.Debug)
             Gdx.app.debug(level.toString(), prefix + time + message);
         else
             Gdx.app.log(level.toString(), prefix + time + message);
     }
 
+    private long getFrameId() {
+        return Gdx.graphics == null ? -1 : Gdx.graphics.getFrameId();
+    }
+
     enum Level {
         Debug, Info, Warn, Error, Fatal
     }
@@ -10,6 +10,7 @@ import de.eskalon.commons.screen.ManagedScreen;
 import de.eskalon.commons.screen.transition.impl.HorizontalSlicingTransition;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.statics.Statics;
+import dev.lyze.parallelworlds.statics.assets.GameAssets;
 
 public class IntroScreen extends ManagedScreen {
     private static final Logger<IntroScreen> logger = new Logger<>(IntroScreen.class);
@@ -69,7 +70,7 @@ public class IntroScreen extends ManagedScreen {
 
         if (label.hasEnded() && !sceneSwitched) {
             Statics.assets.getMainMenu().getCaffeine().stop();
-            Statics.parallelWorlds.getScreenManager().pushScreen(LoadingScreen.class.getName(), HorizontalSlicingTransition.class.getName(), "Nsyse_Tutorial");
+            Statics.parallelWorlds.getScreenManager().pushScreen(LoadingScreen.class.getName(), HorizontalSlicingTransition.class.getName(), GameAssets.FIRST_MAP);
             sceneSwitched = true;
         }
 
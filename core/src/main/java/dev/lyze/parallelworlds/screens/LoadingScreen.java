@@ -51,6 +51,8 @@ public class LoadingScreen extends ManagedScreen {
 
         mapPath = (String) Objects.requireNonNull(pushParams)[0];
 
+        Statics.assets.getGame().prefetch(mapPath);
+
         assetsToLoad.clear();
         assetsToLoad.add(Statics.assets.getGame());
         assetsToLoad.add(Statics.assets.getSound());
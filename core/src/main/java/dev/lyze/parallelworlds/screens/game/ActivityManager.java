@@ -0,0 +1,142 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.dongbat.jbump.World;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.MoveableEntity;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import lombok.Getter;
+
+import java.util.ArrayList;
+
+// updates the entities around the players every tick, distant ones every few ticks and far away ones not at all
+// the tiers only depend on simulation state, never on the window or the camera, so replays play out the same everywhere
+public class ActivityManager {
+    private static final Logger<ActivityManager> logger = new Logger<>(ActivityManager.class);
+
+    // the largest camera view around the players plus a few tiles for the camera lagging behind them
+    // keepInBoundaries shifts the camera sideways up to half a view at the map edges, so horizontally that's a whole view
+    private static final float CAMERA_LAG_MARGIN = 8f;
+    private static final float FULL_MARGIN_X = GameCamera.MAX_VIEW_WIDTH * GameCamera.MAX_ZOOM + CAMERA_LAG_MARGIN;
+    private static final float FULL_MARGIN_Y = GameCamera.MAX_VIEW_HEIGHT * GameCamera.MAX_ZOOM / 2f + CAMERA_LAG_MARGIN;
+    private static final float REDUCED_MARGIN = 32f;
+    private static final int REDUCED_RATE = 4;
+    // a reduced entity never waits much longer than the rate, more than this is a restart or a rewind
+    private static final int MAX_CATCH_UP = REDUCED_RATE * 2;
+
+    private final Level level;
+
+    private final Rectangle fullBounds = new Rectangle();
+    private final Rectangle reducedBounds = new Rectangle();
+
+    // entities updated this tick and the ticks they catch up, thought in parallel then updated in list order
+    private final Array<Entity> due = new Array<>();
+    private final IntArray dueSteps = new IntArray();
+    private final Array<Entity> step = new Array<>();
+    private final FloatArray stepDelta = new FloatArray();
+
+    @Getter
+    private int fullCount, reducedCount, dormantCount;
+
+    public ActivityManager(Level level) {
+        this.level = level;
+    }
+
+    public void update(ArrayList<Entity> entities, World<Entity> world, float delta) {
+        fullCount = reducedCount = dormantCount = 0;
+        due.clear();
+        dueSteps.clear();
+
+        var tick = level.getTick();
+        for (int i = 0; i < entities.size(); i++) {
+            var entity = entities.get(i);
+            var x = entity.getPosition().x + entity.getWidth() / 2f;
+            var y = entity.getPosition().y + entity.getHeight() / 2f;
+
+            if (fullBounds.contains(x, y)) {
+                fullCount++;
+                addDue(entity, tick);
+                continue;
+            }
+
+            if (!reducedBounds.contains(x, y)) {
+                // nobody sees the death animation this far out, dead bodies despawn right away
+                if (entity instanceof MoveableEntity && ((MoveableEntity) entity).isDead())
+                    ((MoveableEntity) entity).despawn();
+
+                dormantCount++;
+                // dormant entities don't catch up the time they slept
+                entity.setLastUpdateTick(tick);
+                continue;
+            }
+
+            reducedCount++;
+            // staggered by the list index so the reduced entities don't all update on the same tick
+            if ((tick + i) % REDUCED_RATE == 0)
+                addDue(entity, tick);
+        }
+
+        // a reduced entity runs one think and update per tick it skipped, moves are per tick displacements and can't be scaled by the delta
+        for (int round = 0; round < MAX_CATCH_UP; round++) {
+            step.clear();
+            stepDelta.clear();
+            for (int i = 0; i < due.size; i++) {
+                if (dueSteps.get(i) <= round)
+                    continue;
+
+                step.add(due.get(i));
+                stepDelta.add(delta);
+            }
+
+            if (step.size == 0)
+                break;
+
+            level.getContext().getThinkScheduler().think(step, stepDelta);
+
+            for (int i = 0; i < step.size; i++) {
+                var entity = step.get(i);
+                entity.update(world, delta);
+                entity.setLastUpdateTick(tick);
+            }
+        }
+
+        due.clear();
+        step.clear();
+    }
+
+    // bounding box of the players, the camera always keeps both of them in view
+    // runs before the islands tick, the players of the other island move while this island updates
+    public void prepare() {
+        var minX = Float.MAX_VALUE;
+        var minY = Float.MAX_VALUE;
+        var maxX = -Float.MAX_VALUE;
+        var maxY = -Float.MAX_VALUE;
+        for (Player player : level.getPlayers().getPlayers()) {
+            var position = player.getPosition();
+            minX = Math.min(minX, position.x);
+            minY = Math.min(minY, position.y);
+            maxX = Math.max(maxX, position.x + player.getWidth());
+            maxY = Math.max(maxY, position.y + player.getHeight());
+        }
+
+        fullBounds.set(minX - FULL_MARGIN_X, minY - FULL_MARGIN_Y, maxX - minX + FULL_MARGIN_X * 2, maxY - minY + FULL_MARGIN_Y * 2);
+        reducedBounds.set(fullBounds.x - REDUCED_MARGIN, fullBounds.y - REDUCED_MARGIN, fullBounds.width + REDUCED_MARGIN * 2, fullBounds.height + REDUCED_MARGIN * 2);
+    }
+
+    private void addDue(Entity entity, int tick) {
+        due.add(entity);
+        dueSteps.add(Math.max(1, Math.min(MAX_CATCH_UP, tick - entity.getLastUpdateTick())));
+    }
+
+    public void clear() {
+        due.clear();
+        dueSteps.clear();
+        step.clear();
+        stepDelta.clear();
+        fullCount = reducedCount = dormantCount = 0;
+    }
+}
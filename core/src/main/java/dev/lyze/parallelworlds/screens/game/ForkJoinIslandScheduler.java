@@ -0,0 +1,40 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import java.util.concurrent.ForkJoinPool;
+
+// ticks the second island on a fork join pool next to the first one, desktop and headless only (excluded from the gwt build)
+public class ForkJoinIslandScheduler implements IslandScheduler {
+    private static final ThreadLocal<Island> ticking = new ThreadLocal<>();
+
+    private final ForkJoinPool pool;
+
+    public ForkJoinIslandScheduler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void tick(Island first, Island second, float delta) {
+        var task = pool.submit(() -> tick(second, delta));
+        try {
+            tick(first, delta);
+        } finally {
+            task.join();
+        }
+    }
+
+    private static void tick(Island island, float delta) {
+        var previous = ticking.get();
+        ticking.set(island);
+        try {
+            island.tick(delta);
+        } finally {
+            ticking.set(previous);
+        }
+    }
+
+    @Override
+    public Island current(Island first, Island second) {
+        var island = ticking.get();
+        return island == first || island == second ? island : null;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// splits the think phase over a fork join pool, desktop and headless only (excluded from the gwt build)
+public class ForkJoinThinkScheduler implements ThinkScheduler {
+    // below this many entities forking costs more than it saves
+    private static final int BATCH_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final SerialThinkScheduler serial = new SerialThinkScheduler();
+
+    public ForkJoinThinkScheduler(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void think(Array<Entity> entities, FloatArray deltas) {
+        if (entities.size <= BATCH_SIZE) {
+            serial.think(entities, deltas);
+            return;
+        }
+
+        pool.invoke(new ThinkTask(entities, deltas, 0, entities.size));
+    }
+
+    private static class ThinkTask extends RecursiveAction {
+        private final Array<Entity> entities;
+        private final FloatArray deltas;
+        private final int from, to;
+
+        private ThinkTask(Array<Entity> entities, FloatArray deltas, int from, int to) {
+            this.entities = entities;
+            this.deltas = deltas;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                for (int i = from; i < to; i++)
+                    entities.get(i).think(deltas.get(i));
+                return;
+            }
+
+            var middle = (from + to) >>> 1;
+            invokeAll(new ThinkTask(entities, deltas, from, middle), new ThinkTask(entities, deltas, middle, to));
+        }
+    }
+}
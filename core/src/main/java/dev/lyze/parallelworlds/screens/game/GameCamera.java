@@ -1,6 +1,5 @@
 package dev.lyze.parallelworlds.screens.game;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
@@ -12,12 +11,33 @@ import dev.lyze.parallelworlds.utils.Vector3Pool;
 public class GameCamera extends OrthographicCamera {
     private static final Logger<GameCamera> logger = new Logger<>(GameCamera.class);
 
+    // the viewport extends the view up to the max size depending on the window, zoom scales it up to MAX_ZOOM
+    public static final float MIN_VIEW_WIDTH = 80f;
+    public static final float MIN_VIEW_HEIGHT = 40f;
+    public static final float MAX_VIEW_WIDTH = 120f;
+    public static final float MAX_VIEW_HEIGHT = 60f;
+    public static final float MIN_ZOOM = 0.8f;
+    public static final float MAX_ZOOM = 2f;
+
     private final float movementSpeed = 5f;
     private final float zoomSpeed = 0.5f;
 
     private final Vector3 oldPosition = new Vector3();
     private float oldZoom = 0;
 
+    private int screenWidth, screenHeight;
+
+    private final Vector3Pool vector3Pool;
+
+    public GameCamera(Vector3Pool vector3Pool) {
+        this.vector3Pool = vector3Pool;
+    }
+
+    public void setScreenSize(int screenWidth, int screenHeight) {
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
     public void update(Vector2 pos1, Vector2 pos2, Rectangle bounds, float delta) {
         oldZoom = zoom;
         oldPosition.set(position);
@@ -33,11 +53,11 @@ public class GameCamera extends OrthographicCamera {
     }
 
     public void zoomToPlayers(Vector2 pos1, Vector2 pos2, float delta) {
-        var redPlayerViewport = Vector3Pool.instance.obtain();
-        var bluePlayerViewport = Vector3Pool.instance.obtain();
+        var redPlayerViewport = vector3Pool.obtain();
+        var bluePlayerViewport = vector3Pool.obtain();
 
-        redPlayerViewport.set(pos1.x / Gdx.graphics.getWidth(), pos1.y / Gdx.graphics.getHeight(), 0);
-        bluePlayerViewport.set(pos2.x / Gdx.graphics.getWidth(), pos2.y / Gdx.graphics.getHeight(), 0);
+        redPlayerViewport.set(pos1.x / screenWidth, pos1.y / screenHeight, 0);
+        bluePlayerViewport.set(pos2.x / screenWidth, pos2.y / screenHeight, 0);
 
         this.project(redPlayerViewport);
         this.project(bluePlayerViewport);
@@ -49,11 +69,10 @@ public class GameCamera extends OrthographicCamera {
         if (viewportDist < 0.7f) {
             this.zoom = this.zoom - zoomSpeed * delta;
         }
-        if (this.zoom < 0.8f)
-            this.zoom = 0.8f;
+        this.zoom = MathUtils.clamp(this.zoom, MIN_ZOOM, MAX_ZOOM);
 
-        Vector3Pool.instance.free(redPlayerViewport);
-        Vector3Pool.instance.free(bluePlayerViewport);
+        vector3Pool.free(redPlayerViewport);
+        vector3Pool.free(bluePlayerViewport);
     }
 
     public void lerpToPlayers(Vector2 pos1, Vector2 pos2, float delta) {
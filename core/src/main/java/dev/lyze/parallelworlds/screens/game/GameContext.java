@@ -0,0 +1,39 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import dev.lyze.parallelworlds.statics.Assets;
+import dev.lyze.parallelworlds.utils.Vector2Pool;
+import dev.lyze.parallelworlds.utils.Vector3Pool;
+import lombok.Getter;
+
+// everything a level and its entities use from outside the level, levels with their own context can update on separate threads
+public class GameContext {
+    // loaded once and only read by the simulation, safe to share
+    @Getter
+    private final Assets assets;
+
+    @Getter
+    private final Vector2Pool vector2Pool = new Vector2Pool();
+    @Getter
+    private final Vector3Pool vector3Pool = new Vector3Pool();
+
+    // runs the think phase of the level's entities, stateless so levels can share one
+    @Getter
+    private final ThinkScheduler thinkScheduler;
+    // ticks the two islands of the level, stateless as well
+    @Getter
+    private final IslandScheduler islandScheduler;
+
+    public GameContext(Assets assets) {
+        this(assets, new SerialThinkScheduler());
+    }
+
+    public GameContext(Assets assets, ThinkScheduler thinkScheduler) {
+        this(assets, thinkScheduler, new SerialIslandScheduler());
+    }
+
+    public GameContext(Assets assets, ThinkScheduler thinkScheduler, IslandScheduler islandScheduler) {
+        this.assets = assets;
+        this.thinkScheduler = thinkScheduler;
+        this.islandScheduler = islandScheduler;
+    }
+}
@@ -1,6 +1,7 @@
 package dev.lyze.parallelworlds.screens.game;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
@@ -12,20 +13,29 @@ import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import de.eskalon.commons.screen.ManagedScreen;
 import de.eskalon.commons.screen.transition.impl.BlendingTransition;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.screens.EndScene;
 import dev.lyze.parallelworlds.screens.LoadingScreen;
+import dev.lyze.parallelworlds.screens.game.audio.GameLevelAudio;
+import dev.lyze.parallelworlds.screens.game.audio.LevelAudio;
 import dev.lyze.parallelworlds.screens.game.gamepads.VirtualGamepadGroup;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.InputRecorder;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.InputReplayIO;
 import dev.lyze.parallelworlds.statics.Statics;
 import lombok.Getter;
+import lombok.Setter;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Objects;
 
-public class GameScreen extends ManagedScreen {
+public class GameScreen extends ManagedScreen implements LevelHost {
     private static final Logger<GameScreen> logger = new Logger<>(GameScreen.class);
 
     private final Stage ui = new Stage(new ExtendViewport(1280, 720));
@@ -38,11 +48,28 @@ public class GameScreen extends ManagedScreen {
 
     @Getter
     private Level level;
+    private LevelRenderer levelRenderer;
+    private final LevelRewind rewind = new LevelRewind(10 * 100, 512 * 1024);
+    private final LevelAudio audio = new GameLevelAudio();
 
     private ArrayList<VirtualGamepadGroup> gamepads = new ArrayList<>();
+    @Getter
+    private InputRecorder recorder;
 
     private int totalDeaths, totalCoins;
 
+    @Getter @Setter
+    private boolean instantRestart = true;
+    private boolean restartPending;
+
+    // fixed seed and a fixed amount of ticks per rendered frame instead of the wall clock accumulator
+    @Getter @Setter
+    private boolean deterministic;
+    @Getter @Setter
+    private long deterministicSeed;
+    @Getter @Setter
+    private int ticksPerFrame = 1;
+
     @Override
     protected void create() {
         var root = new Table();
@@ -82,16 +109,27 @@ public class GameScreen extends ManagedScreen {
     public void show() {
         super.show();
 
+        if (levelRenderer != null)
+            levelRenderer.dispose();
+
+        restartPending = false;
         mapPath = (String) Objects.requireNonNull(pushParams)[0];
         var map = Statics.assets.getGame().get(mapPath);
-        level = new Level(this, map);
+        var context = new GameContext(Statics.assets, Statics.thinkScheduler, Statics.islandScheduler);
+        level = deterministic ? new Level(context, this, map, audio, deterministicSeed) : new Level(context, this, map, audio);
+        level.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         level.initialize();
+        levelRenderer = new LevelRenderer(level);
+        rewind.setLevel(level);
+
+        Statics.assets.getGame().retain(mapPath, level.getMap().getNextLevel());
 
         mapTextLabel.setText(level.getMap().getText());
 
         gamepads.forEach(VirtualGamepadGroup::dispose);
         gamepads.clear();
         level.getPlayers().getPlayers().forEach(p -> gamepads.add(new VirtualGamepadGroup(p, gamepads.size(), mobileUi)));
+        recorder = new InputRecorder(mapPath, level.getSeed(), gamepads.size());
 
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
@@ -103,6 +141,15 @@ public class GameScreen extends ManagedScreen {
 
     @Override
     public void render(float delta) {
+        if (deterministic) {
+            actualDeltaTime = targetDeltaTime;
+            for (int i = 0; i < ticksPerFrame; i++)
+                update();
+
+            render();
+            return;
+        }
+
         var newTime = System.currentTimeMillis();
         var frameTime = (newTime - currentTime) / 1000f;
         accumulator += frameTime;
@@ -119,9 +166,32 @@ public class GameScreen extends ManagedScreen {
     }
 
     private void update() {
+        Statics.assets.getGame().update();
+
         gamepads.forEach(g -> g.update(actualDeltaTime));
 
-        level.update(actualDeltaTime);
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F12))
+            level.killPlayer();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F11))
+            level.loadNextLevel();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F9))
+            saveReplay();
+
+        if (Gdx.input.isKeyPressed(Input.Keys.F10) && rewind.rewind(1)) {
+            var players = level.getPlayers();
+            level.getCamera().update(players.getFirePlayer().getPosition(), players.getIcePlayer().getPosition(), level.getMap().getBoundaries(), actualDeltaTime);
+            recorder.truncate(level.getTick());
+        } else {
+            recorder.record(gamepads);
+            level.update(actualDeltaTime);
+            if (restartPending) {
+                restartPending = false;
+                level.restart();
+                rewind.clear();
+                recorder.clear();
+            }
+            rewind.record();
+        }
         coinLabel.setText(level.getCoinCount());
 
         ui.getViewport().apply();
@@ -138,7 +208,7 @@ public class GameScreen extends ManagedScreen {
         Gdx.gl.glClearColor(0.2f, 0.1f, 0.4f, 1);
         Gdx.gl.glClear(GL30.GL_COLOR_BUFFER_BIT);
 
-        level.render();
+        levelRenderer.render();
 
         ui.getViewport().apply();
         ui.draw();
@@ -149,6 +219,19 @@ public class GameScreen extends ManagedScreen {
         }
     }
 
+    private void saveReplay() {
+        var file = Gdx.files.local("replays/" + mapPath + InputReplayIO.EXTENSION);
+        var out = new DataOutputStream(file.write(false, 8192));
+        try {
+            InputReplayIO.write(recorder.finish(), out);
+            logger.logInfo("Saved " + recorder.getTick() + " ticks of input to " + file.path());
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't write replay " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
     @Override
     public void resize(int width, int height) {
         level.resize(width, height);
@@ -166,11 +249,20 @@ public class GameScreen extends ManagedScreen {
 
     }
 
+    @Override
     public void restartLevel() {
         totalDeaths++;
+
+        // restarted after the current update, entities may still be iterating
+        if (instantRestart) {
+            restartPending = true;
+            return;
+        }
+
         setLevel(mapPath);
     }
 
+    @Override
     public void nextLevel(String mapPath) {
         totalCoins += level.getCoinCount();
 
@@ -0,0 +1,225 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.statics.Statics;
+import lombok.Getter;
+
+// draws the background colors and the gradient layers as a few flat quads, one per row run of the gradient tiles
+public class GradientRenderer {
+    private static final Logger<GradientRenderer> logger = new Logger<>(GradientRenderer.class);
+
+    private final Map map;
+    private final Texture pixel = Statics.assets.getGame().getPixel();
+
+    private final Array<GradientQuad> quads = new Array<>();
+    private final Rectangle visible = new Rectangle();
+
+    @Getter
+    private float overdraw;
+    @Getter
+    private int drawnQuadCount;
+
+    public GradientRenderer(Map map) {
+        this.map = map;
+
+        if (map.isProceduralGradient())
+            map.getGradientLayers().forEach(layer -> quads.addAll(getQuads(layer)));
+    }
+
+    public void render(SpriteBatch batch, Rectangle view) {
+        var drawnArea = 0f;
+        drawnQuadCount = 0;
+
+        batch.setColor(map.getTopColor());
+        drawnArea += draw(batch, view, 0, map.getMapHeight() / 2f, map.getMapWidth(), map.getMapHeight() / 2f);
+        batch.setColor(map.getBottomColor());
+        drawnArea += draw(batch, view, 0, 0, map.getMapWidth(), map.getMapHeight() / 2f);
+
+        for (GradientQuad quad : quads) {
+            batch.setColor(quad.color);
+            drawnArea += draw(batch, view, quad.x, quad.y, quad.width, quad.height);
+        }
+
+        batch.setColor(Color.WHITE);
+
+        if (!map.isProceduralGradient() && Statics.debugging)
+            drawnArea += countVisibleGradientCells(view);
+
+        overdraw = drawnArea / (view.width * view.height);
+    }
+
+    private float draw(SpriteBatch batch, Rectangle view, float x, float y, float width, float height) {
+        visible.set(x, y, width, height);
+        if (!view.overlaps(visible))
+            return 0;
+
+        var x1 = Math.max(x, view.x);
+        var y1 = Math.max(y, view.y);
+        var x2 = Math.min(x + width, view.x + view.width);
+        var y2 = Math.min(y + height, view.y + view.height);
+
+        batch.draw(pixel, x1, y1, x2 - x1, y2 - y1);
+        drawnQuadCount++;
+
+        return (x2 - x1) * (y2 - y1);
+    }
+
+    private float countVisibleGradientCells(Rectangle view) {
+        var area = 0f;
+
+        for (TiledMapTileLayer layer : map.getGradientLayers()) {
+            var col1 = Math.max(0, (int) view.x);
+            var col2 = Math.min(layer.getWidth() - 1, (int) (view.x + view.width));
+            var row1 = Math.max(0, (int) view.y);
+            var row2 = Math.min(layer.getHeight() - 1, (int) (view.y + view.height));
+
+            for (int row = row1; row <= row2; row++)
+                for (int col = col1; col <= col2; col++)
+                    if (layer.getCell(col, row) != null)
+                        area++;
+        }
+
+        return area;
+    }
+
+    // sampled once per loaded map, restarts and reloads of the same map reuse the quads
+    private static Array<GradientQuad> getQuads(TiledMapTileLayer layer) {
+        var assets = Statics.assets.getGame();
+        var quads = assets.getGradientQuads(layer);
+        if (quads == null) {
+            quads = sample(layer);
+            assets.putGradientQuads(layer, quads);
+        }
+
+        return quads;
+    }
+
+    private static Array<GradientQuad> sample(TiledMapTileLayer layer) {
+        var quads = new Array<GradientQuad>();
+        var previousRow = new Array<GradientQuad>();
+        var currentRow = new Array<GradientQuad>();
+
+        var pixmaps = new ObjectMap<Texture, Pixmap>();
+        var tileColors = new ObjectMap<TiledMapTile, Color>();
+
+        for (int row = 0; row < layer.getHeight(); row++) {
+            for (int col = 0; col < layer.getWidth(); col++) {
+                if (layer.getCell(col, row) == null)
+                    continue;
+
+                var start = col;
+                float r = 0, g = 0, b = 0, a = 0;
+                for (; col < layer.getWidth() && layer.getCell(col, row) != null; col++) {
+                    var tile = layer.getCell(col, row).getTile();
+                    var tileColor = tileColors.get(tile);
+                    if (tileColor == null)
+                        tileColors.put(tile, tileColor = averageColor(tile, pixmaps));
+
+                    r += tileColor.r;
+                    g += tileColor.g;
+                    b += tileColor.b;
+                    a += tileColor.a;
+                }
+
+                var count = col - start;
+                var quad = new GradientQuad(start, row, count, 1, unpremultiply(r / count, g / count, b / count, a / count));
+                var merged = false;
+                for (GradientQuad above : previousRow) {
+                    if (above.x == quad.x && above.width == quad.width && above.color.equals(quad.color)) {
+                        above.height++;
+                        currentRow.add(above);
+                        merged = true;
+                        break;
+                    }
+                }
+
+                if (!merged) {
+                    quads.add(quad);
+                    currentRow.add(quad);
+                }
+            }
+
+            previousRow.clear();
+            previousRow.addAll(currentRow);
+            currentRow.clear();
+        }
+
+        for (Pixmap pixmap : pixmaps.values())
+            pixmap.dispose();
+
+        logger.logInfo("Sampled gradient layer " + layer.getName() + " into " + quads.size + " quads.");
+        return quads;
+    }
+
+    // premultiplied average so that blending the result over the background matches the average of the blended pixels
+    private static Color averageColor(TiledMapTile tile, ObjectMap<Texture, Pixmap> pixmaps) {
+        var region = tile.getTextureRegion();
+
+        var pixmap = pixmaps.get(region.getTexture());
+        if (pixmap == null)
+            pixmaps.put(region.getTexture(), pixmap = readPixmap(region.getTexture()));
+
+        float r = 0, g = 0, b = 0, a = 0;
+        var pixelColor = new Color();
+        for (int y = region.getRegionY(); y < region.getRegionY() + region.getRegionHeight(); y++) {
+            for (int x = region.getRegionX(); x < region.getRegionX() + region.getRegionWidth(); x++) {
+                Color.rgba8888ToColor(pixelColor, pixmap.getPixel(x, y));
+                r += pixelColor.r * pixelColor.a;
+                g += pixelColor.g * pixelColor.a;
+                b += pixelColor.b * pixelColor.a;
+                a += pixelColor.a;
+            }
+        }
+
+        var pixels = region.getRegionWidth() * region.getRegionHeight();
+        return new Color(r / pixels, g / pixels, b / pixels, a / pixels);
+    }
+
+    private static Color unpremultiply(float r, float g, float b, float a) {
+        if (a <= 0)
+            return new Color(0, 0, 0, 0);
+
+        // rounded to 8 bits so that neighbouring rows of the same color merge
+        var color = new Color(r / a, g / a, b / a, a);
+        Color.rgba8888ToColor(color, Color.rgba8888(color));
+        return color;
+    }
+
+    private static Pixmap readPixmap(Texture texture) {
+        var data = texture.getTextureData();
+        if (!data.isPrepared())
+            data.prepare();
+
+        var pixmap = data.consumePixmap();
+        if (data.disposePixmap())
+            return pixmap;
+
+        // the texture data keeps ownership, work on a copy
+        var copy = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), pixmap.getFormat());
+        copy.drawPixmap(pixmap, 0, 0);
+        return copy;
+    }
+
+    public static class GradientQuad {
+        private final float x, y, width;
+        private float height;
+        private final Color color;
+
+        public GradientQuad(float x, float y, float width, float height, Color color) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.color = color;
+        }
+    }
+}
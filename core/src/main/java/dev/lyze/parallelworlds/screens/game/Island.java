@@ -0,0 +1,109 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.utils.Array;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.audio.DeferredLevelAudio;
+import dev.lyze.parallelworlds.screens.game.audio.LevelAudio;
+import dev.lyze.parallelworlds.screens.game.collision.CountingWorld;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import lombok.Getter;
+
+import java.util.ArrayList;
+
+// one half of the map, the fire world on top or the inverted ice world below, with its own collision world, players and entities
+// while the islands tick an island only touches its own entities, everything that reaches further is queued for the barrier
+public class Island {
+    private static final Logger<Island> logger = new Logger<>(Island.class);
+
+    private final Level level;
+
+    @Getter
+    private final int index;
+    @Getter
+    private final boolean inverted;
+
+    @Getter
+    private final CountingWorld world = new CountingWorld(4);
+
+    @Getter
+    private final ArrayList<Player> players = new ArrayList<>();
+    @Getter
+    private final ArrayList<Entity> entities = new ArrayList<>();
+    @Getter
+    private final ArrayList<Entity> entitiesToAdd = new ArrayList<>();
+    @Getter
+    private final ArrayList<Entity> entitiesToRemove = new ArrayList<>();
+
+    @Getter
+    private final ActivityManager activity;
+
+    // level calls made while ticking, run in order on the simulation thread once both islands are done
+    private final Array<Runnable> deferred = new Array<>();
+    @Getter
+    private final DeferredLevelAudio audio;
+
+    @Getter
+    private boolean ticking;
+
+    public Island(Level level, LevelAudio levelAudio, int index, boolean inverted) {
+        this.level = level;
+        this.index = index;
+        this.inverted = inverted;
+
+        activity = new ActivityManager(level);
+        audio = new DeferredLevelAudio(levelAudio, deferred);
+    }
+
+    public void tick(float delta) {
+        ticking = true;
+        try {
+            for (int i = 0; i < players.size(); i++) {
+                var player = players.get(i);
+                // players think on the island thread, their jumps queue sounds for the barrier
+                player.think(delta);
+                player.update(world, delta);
+                player.setLastUpdateTick(level.getTick());
+            }
+
+            activity.update(entities, world, delta);
+        } finally {
+            ticking = false;
+        }
+    }
+
+    public void defer(Runnable call) {
+        deferred.add(call);
+    }
+
+    void runDeferred() {
+        for (int i = 0; i < deferred.size; i++)
+            deferred.get(i).run();
+
+        deferred.clear();
+    }
+
+    // joins the entities spawned this tick and drops the removed ones
+    void settle() {
+        if (entitiesToAdd.size() > 0) {
+            entities.addAll(entitiesToAdd);
+            entitiesToAdd.clear();
+        }
+
+        entitiesToRemove.forEach(e -> {
+            entities.remove(e);
+            level.removeFromWorlds(e);
+        });
+        entitiesToRemove.clear();
+    }
+
+    void clear() {
+        entities.forEach(level::removeFromWorlds);
+        entitiesToAdd.forEach(level::removeFromWorlds);
+        entities.clear();
+        entitiesToAdd.clear();
+        entitiesToRemove.clear();
+        deferred.clear();
+        activity.clear();
+    }
+}
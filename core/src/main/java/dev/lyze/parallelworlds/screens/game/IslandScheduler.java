@@ -0,0 +1,9 @@
+package dev.lyze.parallelworlds.screens.game;
+
+// ticks the two islands of a level and returns once both are done, that return is the barrier
+public interface IslandScheduler {
+    void tick(Island first, Island second, float delta);
+
+    // the island ticking on the calling thread, null between ticks
+    Island current(Island first, Island second);
+}
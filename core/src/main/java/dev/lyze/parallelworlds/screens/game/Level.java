@@ -1,193 +1,362 @@
 package dev.lyze.parallelworlds.screens.game;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.audio.LevelAudio;
+import dev.lyze.parallelworlds.screens.game.collision.SensorIndex;
 import dev.lyze.parallelworlds.screens.game.entities.Entity;
-import dev.lyze.parallelworlds.statics.Statics;
+import dev.lyze.parallelworlds.screens.game.entities.MoveableEntity;
+import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemyKillPart;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import dev.lyze.parallelworlds.screens.game.entities.particles.CoinParticles;
+import lombok.AccessLevel;
 import lombok.Getter;
-import space.earlygrey.shapedrawer.ShapeDrawer;
-
-import java.util.ArrayList;
 
+// the map is split into two islands, the fire world on top and the inverted ice world below
+// they tick next to each other and meet at a barrier where the deferred calls run and players switch islands
 public class Level {
     private static final Logger<Level> logger = new Logger<>(Level.class);
-    private final Viewport viewport = new ExtendViewport(80, 40, new GameCamera());
-    private final GameScreen game;
+    @Getter
+    private final Viewport viewport;
+    private final LevelHost host;
+
+    @Getter
+    private final GameContext context;
 
-    private final SpriteBatch spriteBatch = new SpriteBatch();
-    private final ShapeDrawer shapeDrawer;
+    private final LevelAudio levelAudio;
 
     @Getter
     private final Map map;
 
+    private final Island upper, lower;
+    @Getter
+    private final Island[] islands;
     @Getter
-    private final World<Entity> world;
+    private final SensorIndex sensors;
 
     @Getter
     private final Players players;
+    @Getter(AccessLevel.PACKAGE)
     private boolean playersDead;
 
     @Getter
     private int coinCount;
 
+    @Getter(AccessLevel.PACKAGE)
+    private boolean finished;
+
     @Getter
-    private final ArrayList<Entity> entities = new ArrayList<>();
-    private final ArrayList<Entity> entitiesToAdd = new ArrayList<>();
-    private final ArrayList<Entity> entitiesToRemove = new ArrayList<>();
+    private final CoinParticles coinParticles;
 
-    private final BitmapFont debugFont;
+    // simulation clock and randomness, the same seed and inputs replay the exact same level
+    @Getter
+    private final long seed;
+    @Getter
+    private final RandomXS128 random;
+    @Getter
+    private int tick;
 
-    private boolean finished;
+    public Level(GameContext context, LevelHost host, TiledMap tiledMap, LevelAudio audio) {
+        this(context, host, tiledMap, audio, MathUtils.random.nextLong());
+    }
 
-    public Level(GameScreen game, TiledMap tiledMap) {
-        this.game = game;
+    public Level(GameContext context, LevelHost host, TiledMap tiledMap, LevelAudio audio, long seed) {
+        this.context = context;
+        this.host = host;
+        this.levelAudio = audio;
+        this.seed = seed;
 
-        world = new World<>(4);
-        map = new Map(game, tiledMap);
+        random = new RandomXS128(seed);
 
-        players = new Players(this);
+        viewport = new ExtendViewport(GameCamera.MIN_VIEW_WIDTH, GameCamera.MIN_VIEW_HEIGHT, GameCamera.MAX_VIEW_WIDTH, GameCamera.MAX_VIEW_HEIGHT, new GameCamera(context.getVector3Pool()));
+
+        upper = new Island(this, audio, 0, false);
+        lower = new Island(this, audio, 1, true);
+        islands = new Island[] { upper, lower };
 
-        shapeDrawer = new ShapeDrawer(spriteBatch, new TextureRegion(Statics.assets.getGame().getPixel()));
-        shapeDrawer.setDefaultLineWidth(0.1f);
+        sensors = new SensorIndex(this);
+        map = new Map(this, tiledMap);
 
-        debugFont = Statics.assets.getMainMenu().getSkin().getFont("Debug");
+        players = new Players(this);
+        assignPlayers();
+        coinParticles = new CoinParticles(this, 64);
     }
 
     public void initialize() {
         map.initialize();
-        map.getMusic().setLooping(true);
-        map.getMusic().play();
+        levelAudio.playMusic(map.getMusicName());
+
+        snapCamera();
+    }
+
+    // in place restart, keeps the map, the static colliders and the music
+    public void restart() {
+        upper.clear();
+        lower.clear();
+        coinParticles.clear();
+        sensors.clearContacts();
+
+        players.reset();
+        assignPlayers();
+        map.respawn();
+
+        coinCount = 0;
+        playersDead = false;
+        finished = false;
+
+        tick = 0;
+        random.setSeed(seed);
 
+        snapCamera();
+    }
+
+    private void snapCamera() {
         for (int i = 0; i < 100; i++) {
-            ((GameCamera) viewport.getCamera()).update(players.getFirePlayer().getPosition(), players.getIcePlayer().getPosition(), map.getBoundaries(), 0.1f);
+            getCamera().update(players.getFirePlayer().getPosition(), players.getIcePlayer().getPosition(), map.getBoundaries(), 0.1f);
         }
     }
 
     public void update(float delta) {
-        viewport.apply();
-
         if (playersDead || finished)
             return;
 
-        players.update(delta);
+        exchangeLinks();
+        upper.getActivity().prepare();
+        lower.getActivity().prepare();
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.F12))
-            killPlayer();
-        if (Gdx.input.isKeyJustPressed(Input.Keys.F11))
-            loadNextLevel();
+        context.getIslandScheduler().tick(upper, lower, delta);
 
-        entities.forEach(e -> e.update(world, delta));
-        if (entitiesToAdd.size() > 0) {
-            entities.addAll(entitiesToAdd);
-            entitiesToAdd.clear();
-        }
+        // barrier, the calls the islands queued run in island order so both schedulers end up in the same state
+        coinParticles.update(delta);
+        upper.runDeferred();
+        lower.runDeferred();
+
+        assignPlayers();
+        upper.settle();
+        lower.settle();
 
-        entitiesToRemove.forEach(e -> {
-            entities.remove(e);
-            world.remove(e.getItem());
-        });
-        entitiesToRemove.clear();
+        getCamera().update(players.getFirePlayer().getPosition(), players.getIcePlayer().getPosition(), map.getBoundaries(), delta);
 
-        ((GameCamera) viewport.getCamera()).update(players.getFirePlayer().getPosition(), players.getIcePlayer().getPosition(), map.getBoundaries(), delta);
+        tick++;
     }
 
-    public void render() {
-        viewport.apply();
-        spriteBatch.setProjectionMatrix(viewport.getCamera().combined);
+    public GameCamera getCamera() {
+        return (GameCamera) viewport.getCamera();
+    }
 
-        spriteBatch.begin();
-        spriteBatch.setColor(map.getTopColor());
-        spriteBatch.draw(Statics.assets.getGame().getPixel(), 0, map.getMapHeight() / 2f, map.getMapWidth(), map.getMapHeight());
-        spriteBatch.setColor(map.getBottomColor());
-        spriteBatch.draw(Statics.assets.getGame().getPixel(), 0, map.getMapHeight() / 2f, map.getMapWidth(), -map.getMapHeight());
-        spriteBatch.end();
+    // the island ticking on this thread, null outside of the island phase
+    private Island ticking() {
+        return context.getIslandScheduler().current(upper, lower);
+    }
 
-        map.render((OrthographicCamera) viewport.getCamera());
+    private Island islandFor(boolean inverted) {
+        return inverted ? lower : upper;
+    }
 
-        spriteBatch.begin();
+    public Island islandOf(Entity entity) {
+        return islands[entity.getIsland()];
+    }
 
-        spriteBatch.setColor(Color.WHITE);
-        players.render(spriteBatch);
-        entities.forEach(e -> e.render(spriteBatch));
-        spriteBatch.end();
+    // sounds of a ticking island wait for the barrier
+    public LevelAudio getAudio() {
+        var island = ticking();
+        return island == null ? levelAudio : island.getAudio();
+    }
 
-        //DEBUG LINES
-        if (!Statics.debugging)
+    // the kill part can't reach into the other island, the enemy dies at the barrier
+    public void killLinked(MoveableEntity linkedEnemy) {
+        var island = ticking();
+        if (island != null) {
+            island.defer(() -> killLinked(linkedEnemy));
             return;
+        }
 
-        spriteBatch.begin();
-        players.debugRender(shapeDrawer);
-
-        shapeDrawer.setColor(Color.GREEN);
-        entities.forEach(e -> e.debugRender(shapeDrawer));
+        linkedEnemy.die();
+    }
 
-        shapeDrawer.setColor(Color.CYAN);
-        map.debugRender(shapeDrawer);
-        shapeDrawer.circle(viewport.getCamera().position.x, viewport.getCamera().position.y, 1);
-        spriteBatch.end();
+    public void addEntity(Entity entity) {
+        var island = ticking();
+        if (island != null) {
+            island.defer(() -> addEntity(entity));
+            return;
+        }
 
-        spriteBatch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
-        spriteBatch.begin();
-        players.debugTextRender(debugFont, viewport.getCamera(), spriteBatch);
-        debugFont.draw(spriteBatch, "Fps: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
-        spriteBatch.end();
+        var target = islandFor(entity.isInvertedWorld());
+        entity.setIsland(target.getIndex());
+        entity.setLastUpdateTick(tick);
+        target.getEntitiesToAdd().add(entity);
+        addToWorlds(entity);
     }
 
-    public void addEntity(Entity entity) {
-        entitiesToAdd.add(entity);
-        entity.addToWorld(world);
+    public void spawnParticles(float x, float y, boolean invertedWorld) {
+        var island = ticking();
+        if (island != null) {
+            island.defer(() -> spawnParticles(x, y, invertedWorld));
+            return;
+        }
+
+        coinParticles.spawn(x, y, invertedWorld);
     }
 
+    // tiles and portals take part in both islands
     public void addStaticEntity(Entity entity) {
-        entity.addToWorld(world);
+        entity.setIsland(-1);
+        addToWorlds(entity);
     }
 
     public void removeEntity(Entity entity) {
+        var island = ticking();
+        if (island != null) {
+            island.defer(() -> removeEntity(entity));
+            return;
+        }
+
+        var entitiesToRemove = islandOf(entity).getEntitiesToRemove();
         if (entitiesToRemove.contains(entity))
             return;
 
         entitiesToRemove.add(entity);
     }
 
+    // movers live in the world of their island, everything else in both with the same item
+    void addToWorlds(Entity entity) {
+        for (Island island : islands) {
+            if (belongsTo(entity, island))
+                entity.addToWorld(island.getWorld());
+        }
+    }
+
+    private static boolean belongsTo(Entity entity, Island island) {
+        return !(entity instanceof MoveableEntity) || entity.getIsland() == island.getIndex();
+    }
+
+    void removeFromWorlds(Entity entity) {
+        for (Island island : islands)
+            entity.removeFromWorld(island.getWorld());
+    }
+
+    // puts an entity that moved outside of the tick (spawn, rewind) back into its worlds
+    public void place(Entity entity) {
+        if (entity instanceof Player)
+            assignPlayers();
+
+        if (entity.getItem() == null) {
+            addToWorlds(entity);
+            return;
+        }
+
+        var position = entity.getPosition();
+        for (Island island : islands) {
+            var world = island.getWorld();
+            if (world.hasItem(entity.getItem()))
+                world.update(entity.getItem(), position.x, position.y, entity.getWidth(), entity.getHeight());
+            else if (belongsTo(entity, island))
+                world.add(entity.getItem(), position.x, position.y, entity.getWidth(), entity.getHeight());
+        }
+    }
+
+    // players that went through a portal move to the other island, only ever between ticks
+    private void assignPlayers() {
+        upper.getPlayers().clear();
+        lower.getPlayers().clear();
+
+        for (Player player : players.getPlayers()) {
+            var target = islandFor(player.isInvertedWorld());
+            target.getPlayers().add(player);
+
+            if (player.getIsland() == target.getIndex() && player.getItem() != null)
+                continue;
+
+            player.setIsland(target.getIndex());
+            removeFromWorlds(player);
+            player.addToWorld(target.getWorld());
+            sensors.addPlayer(player);
+        }
+    }
+
+    // the kill parts read their enemy from the other island before either island moves
+    private void exchangeLinks() {
+        for (Island island : islands) {
+            var entities = island.getEntities();
+            for (int i = 0; i < entities.size(); i++) {
+                if (entities.get(i) instanceof LinkedEnemyKillPart)
+                    ((LinkedEnemyKillPart) entities.get(i)).exchangeLink();
+            }
+        }
+    }
+
+    public int getEntityCount() {
+        return upper.getEntities().size() + lower.getEntities().size();
+    }
+
+    // static items are counted once per island
+    public int countWorldItems() {
+        return upper.getWorld().countItems() + lower.getWorld().countItems();
+    }
+
+    public long getQueryCount() {
+        return upper.getWorld().getQueryCount() + lower.getWorld().getQueryCount();
+    }
+
+    void restoreState(int tick, long randomState0, long randomState1, int coinCount, boolean playersDead, boolean finished) {
+        this.tick = tick;
+        random.setState(randomState0, randomState1);
+        this.coinCount = coinCount;
+        this.playersDead = playersDead;
+        this.finished = finished;
+
+        upper.getActivity().clear();
+        lower.getActivity().clear();
+        assignPlayers();
+        sensors.clearContacts();
+    }
+
     public void addCoin() {
         coinCount++;
     }
 
     public void killPlayer() {
+        var island = ticking();
+        if (island != null) {
+            island.defer(this::killPlayer);
+            return;
+        }
+
         if (finished)
             return;
 
-        Statics.assets.getSound().getFall().play(0.6f);
+        levelAudio.play(context.getAssets().getSound().getFall(), 0.6f);
 
-        game.restartLevel();
+        host.restartLevel();
         playersDead = true;
         finished = true;
     }
 
     public void loadNextLevel() {
+        var island = ticking();
+        if (island != null) {
+            island.defer(this::loadNextLevel);
+            return;
+        }
+
         if (finished)
             return;
 
-        game.nextLevel(map.getNextLevel());
+        host.nextLevel(map.getNextLevel());
         finished = true;
     }
 
 
     public void resize(int width, int height) {
         viewport.update(width, height);
+        getCamera().setScreenSize(width, height);
     }
 
     public void dispose() {
-        map.getMusic().stop();
+        levelAudio.stopMusic();
     }
 }
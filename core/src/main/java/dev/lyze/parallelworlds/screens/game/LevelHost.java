@@ -0,0 +1,7 @@
+package dev.lyze.parallelworlds.screens.game;
+
+public interface LevelHost {
+    void restartLevel();
+
+    void nextLevel(String mapPath);
+}
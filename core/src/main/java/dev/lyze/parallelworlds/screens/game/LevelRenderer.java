@@ -0,0 +1,105 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.statics.Statics;
+import dev.lyze.parallelworlds.utils.CachedOrthogonalTiledMapRenderer;
+import space.earlygrey.shapedrawer.ShapeDrawer;
+
+public class LevelRenderer {
+    private static final Logger<LevelRenderer> logger = new Logger<>(LevelRenderer.class);
+
+    private final Level level;
+
+    private final SpriteBatch spriteBatch = new SpriteBatch();
+    private final ShapeDrawer shapeDrawer;
+    private final CachedOrthogonalTiledMapRenderer mapRenderer;
+    private final GradientRenderer gradientRenderer;
+
+    private final BitmapFont debugFont;
+
+    public LevelRenderer(Level level) {
+        this.level = level;
+
+        mapRenderer = new CachedOrthogonalTiledMapRenderer(level.getMap().getMap(), 1 / 8f);
+        gradientRenderer = new GradientRenderer(level.getMap());
+
+        shapeDrawer = new ShapeDrawer(spriteBatch, new TextureRegion(Statics.assets.getGame().getPixel()));
+        shapeDrawer.setDefaultLineWidth(0.1f);
+
+        debugFont = Statics.assets.getMainMenu().getSkin().getFont("Debug");
+    }
+
+    public void render() {
+        var viewport = level.getViewport();
+        var map = level.getMap();
+        var players = level.getPlayers();
+        var islands = level.getIslands();
+
+        viewport.apply();
+        spriteBatch.setProjectionMatrix(viewport.getCamera().combined);
+
+        mapRenderer.setView((OrthographicCamera) viewport.getCamera());
+
+        spriteBatch.begin();
+        gradientRenderer.render(spriteBatch, mapRenderer.getViewBounds());
+        spriteBatch.end();
+
+        mapRenderer.render();
+
+        spriteBatch.begin();
+
+        spriteBatch.setColor(Color.WHITE);
+        players.render(spriteBatch);
+        for (Island island : islands)
+            island.getEntities().forEach(e -> e.render(spriteBatch));
+        level.getCoinParticles().render(spriteBatch);
+        spriteBatch.end();
+
+        //DEBUG LINES
+        if (!Statics.debugging)
+            return;
+
+        spriteBatch.begin();
+        players.debugRender(shapeDrawer);
+
+        shapeDrawer.setColor(Color.GREEN);
+        for (Island island : islands)
+            island.getEntities().forEach(e -> e.debugRender(shapeDrawer));
+        level.getCoinParticles().debugRender(shapeDrawer);
+
+        shapeDrawer.setColor(Color.CYAN);
+        map.debugRender(shapeDrawer);
+        shapeDrawer.circle(viewport.getCamera().position.x, viewport.getCamera().position.y, 1);
+        spriteBatch.end();
+
+        spriteBatch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        var full = 0;
+        var reduced = 0;
+        var dormant = 0;
+        for (Island island : islands) {
+            full += island.getActivity().getFullCount();
+            reduced += island.getActivity().getReducedCount();
+            dormant += island.getActivity().getDormantCount();
+        }
+
+        spriteBatch.begin();
+        players.debugTextRender(debugFont, viewport.getCamera(), spriteBatch);
+        debugFont.draw(spriteBatch, "Fps: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
+        debugFont.draw(spriteBatch, "Colliders: " + map.getTileColliderCount() + " -> " + map.getCollisionGrid().getSolidCount() + " cells / " + map.getGroundColliderCount() + " boxes (" + level.countWorldItems() + " items)", 10, 40);
+        debugFont.draw(spriteBatch, "Map: " + mapRenderer.getDrawnChunkCount() + "/" + mapRenderer.getChunkCount() + " chunks, " + mapRenderer.getCachedTileCount() + " cached / " + mapRenderer.getAnimatedTileCount() + " animated tiles", 10, 60);
+        debugFont.draw(spriteBatch, "Background: " + gradientRenderer.getDrawnQuadCount() + " quads, " + (int) (gradientRenderer.getOverdraw() * 100) / 100f + "x overdraw (" + (map.isProceduralGradient() ? "procedural" : "tiles") + ")", 10, 80);
+        debugFont.draw(spriteBatch, "Entities: " + full + " full / " + reduced + " reduced / " + dormant + " dormant, " + level.getCoinParticles().getCount() + " particles", 10, 100);
+        spriteBatch.end();
+    }
+
+    public void dispose() {
+        mapRenderer.dispose();
+        spriteBatch.dispose();
+    }
+}
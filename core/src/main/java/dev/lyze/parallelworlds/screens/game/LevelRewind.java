@@ -0,0 +1,428 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+// records the dynamic level state every tick into an off heap ring, each frame only stores the entities that changed since the previous one
+// the coin particles are stored as one record next to the entities
+public class LevelRewind {
+    private static final Logger<LevelRewind> logger = new Logger<>(LevelRewind.class);
+
+    private static final int KEY_FRAME_INTERVAL = 50;
+    private static final int MAX_RUN = 255;
+    private static final int PARTICLES_ID = -1;
+
+    private static final byte TAG_ACTIVE = 0, TAG_TO_ADD = 1, TAG_TO_REMOVE = 2, TAG_PLAYER = 3, TAG_PARTICLES = 4;
+
+    private Level level;
+
+    private final ByteBuffer ring;
+    private ByteBuffer frame = BufferUtils.newByteBuffer(16 * 1024);
+    private ByteBuffer state = BufferUtils.newByteBuffer(1024);
+
+    private final int[] frameOffsets, frameLengths;
+    private final boolean[] keyFrames;
+    private int firstFrame, writeOffset, framesSinceKeyFrame;
+    @Getter
+    private int frameCount;
+
+    private final IntMap<Entity> entitiesById = new IntMap<>();
+    private final ObjectIntMap<Entity> idsByEntity = new ObjectIntMap<>();
+    private int nextId = 1;
+
+    // entity states of the newest frame, the next frame is encoded against them
+    private final IntMap<byte[]> states = new IntMap<>();
+    private final IntIntMap tags = new IntIntMap();
+
+    private final IntSet present = new IntSet();
+    private final IntArray removed = new IntArray();
+    private int restoredTick, restoredCoinCount;
+    private long restoredRandomState0, restoredRandomState1;
+    private byte restoredFlags;
+
+    public LevelRewind(int maxFrames, int bytes) {
+        ring = BufferUtils.newByteBuffer(bytes);
+
+        frameOffsets = new int[maxFrames];
+        frameLengths = new int[maxFrames];
+        keyFrames = new boolean[maxFrames];
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+        clear();
+    }
+
+    public void clear() {
+        firstFrame = frameCount = writeOffset = framesSinceKeyFrame = 0;
+
+        entitiesById.clear();
+        idsByEntity.clear();
+        nextId = 1;
+
+        states.clear();
+        tags.clear();
+    }
+
+    public int getUsedBytes() {
+        var used = 0;
+        for (int i = 0; i < frameCount; i++)
+            used += frameLengths[index(i)];
+
+        return used;
+    }
+
+    public void record() {
+        var keyFrame = frameCount == 0 || framesSinceKeyFrame >= KEY_FRAME_INTERVAL;
+        if (keyFrame) {
+            states.clear();
+            tags.clear();
+            framesSinceKeyFrame = 0;
+        }
+        framesSinceKeyFrame++;
+
+        frame.clear();
+        frame.put((byte) (keyFrame ? 1 : 0));
+        frame.putInt(level.getTick());
+        frame.putLong(level.getRandom().getState(0));
+        frame.putLong(level.getRandom().getState(1));
+        frame.putInt(level.getCoinCount());
+        frame.put((byte) ((level.isPlayersDead() ? 1 : 0) | (level.isFinished() ? 2 : 0)));
+
+        present.clear();
+        var changedPosition = frame.position();
+        frame.putShort((short) 0);
+
+        var changed = 0;
+        for (Player player : level.getPlayers().getPlayers())
+            changed += writeEntity(player, TAG_PLAYER);
+        for (Island island : level.getIslands()) {
+            for (Entity entity : island.getEntities())
+                changed += writeEntity(entity, island.getEntitiesToRemove().contains(entity) ? TAG_TO_REMOVE : TAG_ACTIVE);
+        }
+        for (Island island : level.getIslands()) {
+            for (Entity entity : island.getEntitiesToAdd())
+                changed += writeEntity(entity, TAG_TO_ADD);
+        }
+        changed += writeParticles();
+        frame.putShort(changedPosition, (short) changed);
+
+        removed.clear();
+        for (IntMap.Entry<byte[]> entry : states) {
+            if (!present.contains(entry.key))
+                removed.add(entry.key);
+        }
+
+        ensureFrameCapacity(2 + removed.size * 4);
+        frame.putShort((short) removed.size);
+        for (int i = 0; i < removed.size; i++) {
+            frame.putInt(removed.get(i));
+            states.remove(removed.get(i));
+            tags.remove(removed.get(i), 0);
+        }
+
+        frame.flip();
+        append(keyFrame);
+    }
+
+    private int writeEntity(Entity entity, byte tag) {
+        state.clear();
+        entity.writeState(state);
+        state.flip();
+
+        return writeRecord(idOf(entity), tag);
+    }
+
+    private int writeParticles() {
+        var particles = level.getCoinParticles();
+        if (state.capacity() < particles.getStateBytes())
+            state = BufferUtils.newByteBuffer(Math.max(state.capacity() * 2, particles.getStateBytes()));
+
+        state.clear();
+        particles.writeState(state);
+        state.flip();
+
+        return writeRecord(PARTICLES_ID, TAG_PARTICLES);
+    }
+
+    private int writeRecord(int id, byte tag) {
+        present.add(id);
+
+        var length = state.limit();
+        var previous = states.get(id);
+        if (previous != null && previous.length != length)
+            previous = null;
+
+        if (previous != null && tags.get(id, -1) == tag && isUnchanged(previous))
+            return 0;
+
+        ensureFrameCapacity(9 + length * 2);
+        frame.putInt(id);
+        frame.put(tag);
+        frame.putInt(length);
+        writeDelta(previous, length);
+
+        if (previous == null)
+            states.put(id, previous = new byte[length]);
+        state.position(0);
+        state.get(previous, 0, length);
+        tags.put(id, tag);
+
+        return 1;
+    }
+
+    private boolean isUnchanged(byte[] previous) {
+        for (int i = 0; i < previous.length; i++) {
+            if (state.get(i) != previous[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    // xor against the previous state, then alternating runs of unchanged bytes and changed bytes, each run is at most 255 bytes long
+    private void writeDelta(byte[] previous, int length) {
+        var i = 0;
+        while (i < length) {
+            var zeroStart = i;
+            while (i < length && i - zeroStart < MAX_RUN && delta(previous, i) == 0)
+                i++;
+            frame.put((byte) (i - zeroStart));
+
+            var literalStart = i;
+            while (i < length && i - literalStart < MAX_RUN && delta(previous, i) != 0)
+                i++;
+            frame.put((byte) (i - literalStart));
+
+            for (int l = literalStart; l < i; l++)
+                frame.put(delta(previous, l));
+        }
+    }
+
+    private byte delta(byte[] previous, int index) {
+        var value = state.get(index);
+        return previous == null ? value : (byte) (value ^ previous[index]);
+    }
+
+    private void ensureFrameCapacity(int bytes) {
+        if (frame.remaining() >= bytes)
+            return;
+
+        var grown = BufferUtils.newByteBuffer(Math.max(frame.capacity() * 2, frame.position() + bytes));
+        frame.flip();
+        grown.put(frame);
+        frame = grown;
+    }
+
+    private void append(boolean keyFrame) {
+        var length = frame.limit();
+        if (length > ring.capacity()) {
+            logger.logError("Rewind frame of " + length + " bytes doesn't fit into the ring, clearing it");
+            clear();
+            return;
+        }
+
+        if (frameCount == frameOffsets.length)
+            evictOldest();
+
+        if (writeOffset + length > ring.capacity()) {
+            // the frames behind the write offset are the oldest ones
+            while (frameCount > 0 && frameOffsets[firstFrame] >= writeOffset)
+                evictOldest();
+            writeOffset = 0;
+        }
+
+        while (frameCount > 0 && overlaps(firstFrame, writeOffset, length))
+            evictOldest();
+
+        // a delta without its key frame can't be restored, the next record writes a key frame
+        if (frameCount == 0 && !keyFrame)
+            return;
+
+        var index = index(frameCount);
+        frameOffsets[index] = writeOffset;
+        frameLengths[index] = length;
+        keyFrames[index] = keyFrame;
+
+        ring.limit(ring.capacity());
+        ring.position(writeOffset);
+        ring.put(frame);
+
+        writeOffset += length;
+        frameCount++;
+    }
+
+    private boolean overlaps(int index, int offset, int length) {
+        return frameOffsets[index] < offset + length && offset < frameOffsets[index] + frameLengths[index];
+    }
+
+    private void evictOldest() {
+        do {
+            firstFrame = (firstFrame + 1) % frameOffsets.length;
+            frameCount--;
+        } while (frameCount > 0 && !keyFrames[firstFrame]);
+    }
+
+    private int index(int frame) {
+        return (firstFrame + frame) % frameOffsets.length;
+    }
+
+    // steps back the given amount of ticks, the frames after the restored one are dropped
+    public boolean rewind(int ticks) {
+        if (frameCount == 0)
+            return false;
+
+        restore(Math.max(0, frameCount - 1 - ticks));
+        return true;
+    }
+
+    private void restore(int target) {
+        var keyFrame = target;
+        while (!keyFrames[index(keyFrame)])
+            keyFrame--;
+
+        for (int i = keyFrame; i <= target; i++)
+            decode(index(i));
+
+        apply();
+
+        frameCount = target + 1;
+        writeOffset = frameOffsets[index(target)] + frameLengths[index(target)];
+        framesSinceKeyFrame = target - keyFrame + 1;
+    }
+
+    private void decode(int index) {
+        ring.limit(frameOffsets[index] + frameLengths[index]);
+        ring.position(frameOffsets[index]);
+
+        if (ring.get() == 1) {
+            states.clear();
+            tags.clear();
+        }
+
+        restoredTick = ring.getInt();
+        restoredRandomState0 = ring.getLong();
+        restoredRandomState1 = ring.getLong();
+        restoredCoinCount = ring.getInt();
+        restoredFlags = ring.get();
+
+        var changed = ring.getShort();
+        for (int c = 0; c < changed; c++) {
+            var id = ring.getInt();
+            var tag = ring.get();
+            var length = ring.getInt();
+
+            var bytes = states.get(id);
+            if (bytes == null || bytes.length != length)
+                states.put(id, bytes = new byte[length]);
+
+            var i = 0;
+            while (i < length) {
+                i += ring.get() & 0xFF;
+
+                var literals = ring.get() & 0xFF;
+                for (int l = 0; l < literals; l++, i++)
+                    bytes[i] ^= ring.get();
+            }
+
+            tags.put(id, tag);
+        }
+
+        var removedCount = ring.getShort();
+        for (int r = 0; r < removedCount; r++) {
+            var id = ring.getInt();
+            states.remove(id);
+            tags.remove(id, 0);
+        }
+    }
+
+    private void apply() {
+        for (Island island : level.getIslands()) {
+            removeMissing(island.getEntities());
+            removeMissing(island.getEntitiesToAdd());
+            island.getEntities().clear();
+            island.getEntitiesToAdd().clear();
+            island.getEntitiesToRemove().clear();
+        }
+
+        // ids are handed out in the order the entities joined the lists
+        var ids = states.keys().toArray();
+        ids.sort();
+
+        level.getCoinParticles().clear();
+
+        for (int i = 0; i < ids.size; i++) {
+            var id = ids.get(i);
+            var bytes = states.get(id);
+            if (id == PARTICLES_ID) {
+                readState(bytes);
+                level.getCoinParticles().readState(state);
+                continue;
+            }
+
+            var entity = entitiesById.get(id);
+
+            readState(bytes);
+            entity.readState(state);
+
+            // entities keep their island, only the players switch and they are placed by their restored world
+            switch (tags.get(id, TAG_ACTIVE)) {
+                case TAG_ACTIVE:
+                    level.islandOf(entity).getEntities().add(entity);
+                    break;
+                case TAG_TO_ADD:
+                    level.islandOf(entity).getEntitiesToAdd().add(entity);
+                    break;
+                case TAG_TO_REMOVE:
+                    level.islandOf(entity).getEntities().add(entity);
+                    level.islandOf(entity).getEntitiesToRemove().add(entity);
+                    break;
+            }
+
+            level.place(entity);
+        }
+
+        level.restoreState(restoredTick, restoredRandomState0, restoredRandomState1, restoredCoinCount, (restoredFlags & 1) != 0, (restoredFlags & 2) != 0);
+    }
+
+    private void readState(byte[] bytes) {
+        if (state.capacity() < bytes.length)
+            state = BufferUtils.newByteBuffer(bytes.length);
+
+        state.clear();
+        state.put(bytes);
+        state.flip();
+    }
+
+    private void removeMissing(ArrayList<Entity> entities) {
+        for (Entity entity : entities) {
+            var id = idsByEntity.get(entity, 0);
+            if (id != 0 && states.containsKey(id))
+                continue;
+
+            level.removeFromWorlds(entity);
+        }
+    }
+
+    private int idOf(Entity entity) {
+        var id = idsByEntity.get(entity, 0);
+        if (id == 0) {
+            id = nextId++;
+            idsByEntity.put(entity, id);
+            entitiesById.put(id, entity);
+        }
+
+        return id;
+    }
+}
@@ -1,31 +1,30 @@
 package dev.lyze.parallelworlds.screens.game;
 
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
 import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.collision.CollisionGrid;
 import dev.lyze.parallelworlds.screens.game.entities.impl.GroundTile;
+import dev.lyze.parallelworlds.screens.game.map.ColliderMerger;
 import dev.lyze.parallelworlds.screens.game.map.MapEntitiesCreation;
-import dev.lyze.parallelworlds.statics.Statics;
-import dev.lyze.parallelworlds.utils.OrthogonalTiledMapRendererBleeding;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapSpawn;
 import lombok.Getter;
+import lombok.Setter;
 import space.earlygrey.shapedrawer.ShapeDrawer;
 
 public class Map {
     private static final Logger<Map> logger = new Logger<>(Map.class);
 
-    private final GameScreen game;
+    private final Level level;
     @Getter
     private final TiledMap map;
 
-    private final OrthogonalTiledMapRenderer renderer;
-
     @Getter
     private int mapWidth, mapHeight;
     @Getter
@@ -35,7 +34,7 @@ public class Map {
     @Getter
     private Rectangle boundaries;
     @Getter
-    private Music music;
+    private String musicName;
     @Getter
     private String text;
     @Getter
@@ -44,15 +43,35 @@ public class Map {
     @Getter
     private Color topColor, bottomColor;
 
-    public Map(GameScreen game, TiledMap map) {
-        this.game = game;
-        this.map = map;
+    @Getter @Setter
+    private boolean mergeColliders = true;
+    @Getter @Setter
+    private boolean useCollisionGrid = true;
+    @Getter
+    private CollisionGrid collisionGrid;
+    @Getter
+    private int tileColliderCount, groundColliderCount;
+    @Getter
+    private Array<Rectangle> colliders;
+    private final Rectangle cellShape = new Rectangle();
+    @Getter
+    private Array<MapSpawn> spawns;
+    private MapEntitiesCreation entitiesCreation;
+
+    @Getter @Setter
+    private boolean proceduralGradient = true;
+    @Getter
+    private final Array<TiledMapTileLayer> gradientLayers = new Array<>();
 
-        renderer = new OrthogonalTiledMapRendererBleeding(map, 1 / 8f);
+    public Map(Level level, TiledMap map) {
+        this.level = level;
+        this.map = map;
     }
 
     public void initialize() {
-        new MapEntitiesCreation(game.getLevel(), this).initialize();
+        entitiesCreation = new MapEntitiesCreation(level, this);
+        entitiesCreation.initialize();
+        spawns = entitiesCreation.getSpawns();
 
         setupFields();
         setupLayers();
@@ -60,6 +79,11 @@ public class Map {
         setupBoundaries();
     }
 
+    // spawns the dynamic entities again, the static ones and the colliders stay in the world
+    public void respawn() {
+        entitiesCreation.respawn();
+    }
+
     private void setupBoundaries() {
         var boundariesLayer = map.getLayers().get("Boundaries");
         var objects = boundariesLayer.getObjects();
@@ -81,10 +105,46 @@ public class Map {
         var middleLine = map.getLayers().get("Middle Line");
         if (middleLine != null)
             middleLine.setVisible(false);
+
+        gradientLayers.clear();
+        for (MapLayer l : map.getLayers()) {
+            if (!(l instanceof TiledMapTileLayer) || !isGradientLayer(l))
+                continue;
+
+            gradientLayers.add((TiledMapTileLayer) l);
+            l.setVisible(!proceduralGradient);
+        }
+    }
+
+    private boolean isGradientLayer(MapLayer layer) {
+        var name = layer.getName().toLowerCase();
+        return name.contains("gradient") && !name.contains("wrapper");
+    }
+
+    public void setupCollisions() {
+        groundColliderCount = 0;
+
+        collisionGrid = new CollisionGrid(mapWidth, mapHeight, new GroundTile(0, 0, mapWidth, mapHeight, level));
+
+        var descriptor = map.getProperties().get(MapDescriptor.PROPERTY, MapDescriptor.class);
+        if (descriptor != null && descriptor.isCompiled()) {
+            colliders = descriptor.getColliders();
+            tileColliderCount = descriptor.getTileColliderCount();
+            logger.logInfo("Using " + colliders.size + " precompiled colliders.");
+        } else {
+            colliders = collectColliders();
+        }
+
+        for (Rectangle collider : colliders)
+            addCollider(collider);
+
+        logger.logInfo("Ground colliders: " + tileColliderCount + " tiles -> " + collisionGrid.getSolidCount() + " grid cells, " + groundColliderCount + " world items (" + level.countWorldItems() + " items total).");
     }
 
-    private void setupCollisions() {
-        var world = game.getLevel().getWorld();
+    // merged collider boxes of every visible tile layer in tile units
+    private Array<Rectangle> collectColliders() {
+        tileColliderCount = 0;
+        var boxes = new Array<Rectangle>();
 
         for (MapLayer l : map.getLayers()) {
             if (!(l instanceof TiledMapTileLayer)) {
@@ -102,8 +162,8 @@ public class Map {
                 continue;
             }
 
-
             var layer = (TiledMapTileLayer) l;
+            var merger = new ColliderMerger(layer.getWidth(), layer.getHeight(), tileWidth, tileHeight);
 
             for (int y = 0; y < layer.getHeight(); y++) {
                 for (int x = 0; x < layer.getWidth(); x++) {
@@ -116,13 +176,54 @@ public class Map {
                     if (rectangle == null)
                         continue;
 
-                    var block = new GroundTile(x + rectangle.x, y + rectangle.y, rectangle.width / tileWidth, rectangle.height / tileHeight, game.getLevel());
-                    game.getLevel().addStaticEntity(block);
+                    tileColliderCount++;
+                    merger.add(x, y, rectangle);
                 }
             }
+
+            var merged = merger.merge();
+            boxes.addAll(merged);
+
+            logger.logInfo("Merged " + merger.getCellCount() + " tile colliders of layer " + l.getName() + " into " + merged.size + " boxes.");
+        }
+
+        return boxes;
+    }
+
+    private void addCollider(Rectangle box) {
+        if (!useCollisionGrid && mergeColliders) {
+            addGroundTile(box.x, box.y, box.width, box.height);
+            return;
+        }
+
+        var x1 = Math.max(0, (int) Math.floor(box.x));
+        var y1 = Math.max(0, (int) Math.floor(box.y));
+        var x2 = Math.min(mapWidth, (int) Math.ceil(box.x + box.width));
+        var y2 = Math.min(mapHeight, (int) Math.ceil(box.y + box.height));
+
+        for (int y = y1; y < y2; y++) {
+            for (int x = x1; x < x2; x++) {
+                var left = Math.max(box.x, x);
+                var bottom = Math.max(box.y, y);
+                var right = Math.min(box.x + box.width, x + 1);
+                var top = Math.min(box.y + box.height, y + 1);
+                if (right <= left || top <= bottom)
+                    continue;
+
+                cellShape.set(left - x, bottom - y, right - left, top - bottom);
+                if (useCollisionGrid && collisionGrid.set(x, y, cellShape))
+                    continue;
+
+                addGroundTile(left, bottom, right - left, top - bottom);
+            }
         }
     }
 
+    private void addGroundTile(float x, float y, float width, float height) {
+        level.addStaticEntity(new GroundTile(x, y, width, height, level));
+        groundColliderCount++;
+    }
+
     private Rectangle getCellCollider(TiledMapTileLayer.Cell cell) {
         var objects = cell.getTile().getObjects();
         if (objects.getCount() > 1) {
@@ -142,7 +243,7 @@ public class Map {
         return ((RectangleMapObject) object).getRectangle();
     }
 
-    private void setupFields() {
+    public void setupFields() {
         mapWidth = map.getProperties().get("width", Integer.class);
         mapHeight = map.getProperties().get("height", Integer.class);
 
@@ -157,20 +258,11 @@ public class Map {
 
         text = map.getProperties().get("text", String.class);
 
-        var musicPath= map.getProperties().get("music", String.class);
-        if (musicPath == null)
-            music = Statics.assets.getMusic().getBooster();
-        else
-            music = Statics.assets.getMusic().get(musicPath);
+        musicName = map.getProperties().get("music", String.class);
 
         nextLevel = map.getProperties().get("level", String.class);
     }
 
-    public void render(OrthographicCamera cam) {
-        renderer.setView(cam);
-        renderer.render();
-    }
-
     public void debugRender(ShapeDrawer drawer) {
         drawer.rectangle(boundaries);
     }
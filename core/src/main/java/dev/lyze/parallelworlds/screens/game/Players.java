@@ -26,12 +26,10 @@ public class Players {
 
         players.add(firePlayer = new FirePlayer(level));
         players.add(icePlayer = new FrozenPlayer(level));
-
-        players.forEach(p -> p.addToWorld(level.getWorld()));
     }
 
-    public void update(float delta) {
-        players.forEach(p -> p.update(level.getWorld(), delta));
+    public void reset() {
+        players.forEach(Player::reset);
     }
 
     public void render(SpriteBatch batch) {
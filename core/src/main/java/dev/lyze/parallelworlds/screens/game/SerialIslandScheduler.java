@@ -0,0 +1,19 @@
+package dev.lyze.parallelworlds.screens.game;
+
+public class SerialIslandScheduler implements IslandScheduler {
+    @Override
+    public void tick(Island first, Island second, float delta) {
+        first.tick(delta);
+        second.tick(delta);
+    }
+
+    @Override
+    public Island current(Island first, Island second) {
+        if (first.isTicking())
+            return first;
+        if (second.isTicking())
+            return second;
+
+        return null;
+    }
+}
@@ -0,0 +1,13 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+
+public class SerialThinkScheduler implements ThinkScheduler {
+    @Override
+    public void think(Array<Entity> entities, FloatArray deltas) {
+        for (int i = 0; i < entities.size; i++)
+            entities.get(i).think(deltas.get(i));
+    }
+}
@@ -0,0 +1,10 @@
+package dev.lyze.parallelworlds.screens.game;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+
+// runs the think phase of the entities updated this tick, deltas[i] belongs to entities[i]
+public interface ThinkScheduler {
+    void think(Array<Entity> entities, FloatArray deltas);
+}
@@ -0,0 +1,45 @@
+package dev.lyze.parallelworlds.screens.game.audio;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Array;
+
+// queues the calls of an island that ticks on its own thread, the level plays them at the barrier
+public class DeferredLevelAudio implements LevelAudio {
+    private final LevelAudio audio;
+    private final Array<Runnable> queue;
+
+    public DeferredLevelAudio(LevelAudio audio, Array<Runnable> queue) {
+        this.audio = audio;
+        this.queue = queue;
+    }
+
+    @Override
+    public void play(Sound... sounds) {
+        queue.add(() -> audio.play(sounds));
+    }
+
+    @Override
+    public void play(Sound sound, float volume) {
+        queue.add(() -> audio.play(sound, volume));
+    }
+
+    @Override
+    public void playSmallPitch(Sound... sounds) {
+        queue.add(() -> audio.playSmallPitch(sounds));
+    }
+
+    @Override
+    public void playBigPitch(Sound... sounds) {
+        queue.add(() -> audio.playBigPitch(sounds));
+    }
+
+    @Override
+    public void playMusic(String name) {
+        queue.add(() -> audio.playMusic(name));
+    }
+
+    @Override
+    public void stopMusic() {
+        queue.add(audio::stopMusic);
+    }
+}
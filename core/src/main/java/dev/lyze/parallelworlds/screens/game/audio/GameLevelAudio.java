@@ -0,0 +1,48 @@
+package dev.lyze.parallelworlds.screens.game.audio;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import dev.lyze.parallelworlds.statics.Statics;
+
+public class GameLevelAudio implements LevelAudio {
+    private Music music;
+
+    @Override
+    public void play(Sound... sounds) {
+        Statics.assets.getSound().play(sounds);
+    }
+
+    @Override
+    public void play(Sound sound, float volume) {
+        sound.play(volume);
+    }
+
+    @Override
+    public void playSmallPitch(Sound... sounds) {
+        Statics.assets.getSound().playSmallPitch(sounds);
+    }
+
+    @Override
+    public void playBigPitch(Sound... sounds) {
+        Statics.assets.getSound().playBigPitch(sounds);
+    }
+
+    @Override
+    public void playMusic(String name) {
+        stopMusic();
+
+        if (name == null)
+            music = Statics.assets.getMusic().getBooster();
+        else
+            music = Statics.assets.getMusic().get(name);
+
+        music.setLooping(true);
+        music.play();
+    }
+
+    @Override
+    public void stopMusic() {
+        if (music != null)
+            music.stop();
+    }
+}
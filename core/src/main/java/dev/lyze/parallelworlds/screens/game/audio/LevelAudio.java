@@ -0,0 +1,17 @@
+package dev.lyze.parallelworlds.screens.game.audio;
+
+import com.badlogic.gdx.audio.Sound;
+
+public interface LevelAudio {
+    void play(Sound... sounds);
+
+    void play(Sound sound, float volume);
+
+    void playSmallPitch(Sound... sounds);
+
+    void playBigPitch(Sound... sounds);
+
+    void playMusic(String name);
+
+    void stopMusic();
+}
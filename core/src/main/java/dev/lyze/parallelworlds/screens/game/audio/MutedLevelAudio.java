@@ -0,0 +1,29 @@
+package dev.lyze.parallelworlds.screens.game.audio;
+
+import com.badlogic.gdx.audio.Sound;
+
+public class MutedLevelAudio implements LevelAudio {
+    @Override
+    public void play(Sound... sounds) {
+    }
+
+    @Override
+    public void play(Sound sound, float volume) {
+    }
+
+    @Override
+    public void playSmallPitch(Sound... sounds) {
+    }
+
+    @Override
+    public void playBigPitch(Sound... sounds) {
+    }
+
+    @Override
+    public void playMusic(String name) {
+    }
+
+    @Override
+    public void stopMusic() {
+    }
+}
@@ -0,0 +1,233 @@
+package dev.lyze.parallelworlds.screens.game.collision;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.dongbat.jbump.Item;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import lombok.Getter;
+
+public class CollisionGrid {
+    private static final float EPSILON = 0.0001f;
+
+    @Getter
+    private final int width, height;
+
+    // 0 = empty, otherwise index + 1 into shapes
+    private final short[] cells;
+    private final Array<Rectangle> shapes = new Array<>();
+
+    @Getter
+    private final Item<Entity> groundItem;
+
+    @Getter
+    private int solidCount;
+
+    public CollisionGrid(int width, int height, Entity ground) {
+        this.width = width;
+        this.height = height;
+
+        cells = new short[width * height];
+        groundItem = new Item<>(ground);
+    }
+
+    public boolean set(int x, int y, Rectangle shape) {
+        var shapeIndex = shapes.indexOf(shape, false);
+        if (shapeIndex < 0) {
+            if (shapes.size >= Short.MAX_VALUE)
+                return false;
+
+            shapes.add(new Rectangle(shape));
+            shapeIndex = shapes.size - 1;
+        }
+
+        var current = cells[y * width + x];
+        if (current != 0)
+            return current == shapeIndex + 1;
+
+        cells[y * width + x] = (short) (shapeIndex + 1);
+        solidCount++;
+        return true;
+    }
+
+    public boolean isSolid(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height)
+            return false;
+
+        return cells[y * width + x] != 0;
+    }
+
+    public boolean overlaps(float x, float y, float w, float h) {
+        var col1 = Math.max(0, (int) Math.floor(x));
+        var col2 = Math.min(width - 1, (int) Math.ceil(x + w) - 1);
+        var row1 = Math.max(0, (int) Math.floor(y));
+        var row2 = Math.min(height - 1, (int) Math.ceil(y + h) - 1);
+
+        for (int row = row1; row <= row2; row++) {
+            for (int col = col1; col <= col2; col++) {
+                var cell = cells[row * width + col];
+                if (cell == 0)
+                    continue;
+
+                var shape = shapes.get(cell - 1);
+                var boxX = col + shape.x;
+                var boxY = row + shape.y;
+
+                if (boxX < x + w - EPSILON && boxX + shape.width > x + EPSILON && boxY < y + h - EPSILON && boxY + shape.height > y + EPSILON)
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    public float moveX(float x, float y, float w, float h, float dx) {
+        if (dx == 0)
+            return 0;
+
+        var col1 = Math.max(0, (int) Math.floor(Math.min(x, x + dx)));
+        var col2 = Math.min(width - 1, (int) Math.ceil(Math.max(x + w, x + w + dx)) - 1);
+        var row1 = Math.max(0, (int) Math.floor(y));
+        var row2 = Math.min(height - 1, (int) Math.ceil(y + h) - 1);
+
+        for (int row = row1; row <= row2; row++) {
+            for (int col = col1; col <= col2; col++) {
+                var cell = cells[row * width + col];
+                if (cell == 0)
+                    continue;
+
+                var shape = shapes.get(cell - 1);
+                var boxY = row + shape.y;
+                if (boxY >= y + h - EPSILON || boxY + shape.height <= y + EPSILON)
+                    continue;
+
+                var boxX = col + shape.x;
+                if (dx > 0) {
+                    if (boxX >= x + w - EPSILON && boxX < x + w + dx)
+                        dx = Math.max(0, boxX - (x + w));
+                } else {
+                    var boxRight = boxX + shape.width;
+                    if (boxRight <= x + EPSILON && boxRight > x + dx)
+                        dx = Math.min(0, boxRight - x);
+                }
+            }
+        }
+
+        return dx;
+    }
+
+    public float moveY(float x, float y, float w, float h, float dy) {
+        if (dy == 0)
+            return 0;
+
+        var col1 = Math.max(0, (int) Math.floor(x));
+        var col2 = Math.min(width - 1, (int) Math.ceil(x + w) - 1);
+        var row1 = Math.max(0, (int) Math.floor(Math.min(y, y + dy)));
+        var row2 = Math.min(height - 1, (int) Math.ceil(Math.max(y + h, y + h + dy)) - 1);
+
+        for (int row = row1; row <= row2; row++) {
+            for (int col = col1; col <= col2; col++) {
+                var cell = cells[row * width + col];
+                if (cell == 0)
+                    continue;
+
+                var shape = shapes.get(cell - 1);
+                var boxX = col + shape.x;
+                if (boxX >= x + w - EPSILON || boxX + shape.width <= x + EPSILON)
+                    continue;
+
+                var boxY = row + shape.y;
+                if (dy > 0) {
+                    if (boxY >= y + h - EPSILON && boxY < y + h + dy)
+                        dy = Math.max(0, boxY - (y + h));
+                } else {
+                    var boxTop = boxY + shape.height;
+                    if (boxTop <= y + EPSILON && boxTop > y + dy)
+                        dy = Math.min(0, boxTop - y);
+                }
+            }
+        }
+
+        return dy;
+    }
+
+    // distance along the normalized direction to the first solid shape, walks the cells with a dda and stops at the first hit
+    public float raycast(float x, float y, float dirX, float dirY, float maxDistance) {
+        var cellX = (int) Math.floor(x);
+        var cellY = (int) Math.floor(y);
+
+        var stepX = dirX > 0 ? 1 : dirX < 0 ? -1 : 0;
+        var stepY = dirY > 0 ? 1 : dirY < 0 ? -1 : 0;
+
+        var deltaX = stepX != 0 ? Math.abs(1 / dirX) : Float.MAX_VALUE;
+        var deltaY = stepY != 0 ? Math.abs(1 / dirY) : Float.MAX_VALUE;
+        var nextX = stepX > 0 ? (cellX + 1 - x) * deltaX : stepX < 0 ? (x - cellX) * deltaX : Float.MAX_VALUE;
+        var nextY = stepY > 0 ? (cellY + 1 - y) * deltaY : stepY < 0 ? (y - cellY) * deltaY : Float.MAX_VALUE;
+
+        var distance = 0f;
+        while (distance <= maxDistance) {
+            if (cellX >= 0 && cellY >= 0 && cellX < width && cellY < height) {
+                var cell = cells[cellY * width + cellX];
+                if (cell != 0) {
+                    var shape = shapes.get(cell - 1);
+                    var hit = intersectRay(x, y, dirX, dirY, cellX + shape.x, cellY + shape.y, shape.width, shape.height);
+                    if (hit >= 0 && hit <= maxDistance)
+                        return hit;
+                }
+            } else if ((cellX < 0 && stepX <= 0) || (cellX >= width && stepX >= 0) || (cellY < 0 && stepY <= 0) || (cellY >= height && stepY >= 0)) {
+                // left the grid for good
+                break;
+            }
+
+            if (nextX < nextY) {
+                cellX += stepX;
+                distance = nextX;
+                nextX += deltaX;
+            } else {
+                cellY += stepY;
+                distance = nextY;
+                nextY += deltaY;
+            }
+        }
+
+        return maxDistance;
+    }
+
+    // sweeps the rect along an axis, diagonal casts aren't needed by anything yet
+    public float shapecast(float x, float y, float w, float h, float dirX, float dirY, float maxDistance) {
+        if (dirX != 0 && dirY != 0)
+            throw new IllegalArgumentException("Only axis aligned shape casts are supported");
+
+        if (dirX != 0)
+            return Math.abs(moveX(x, y, w, h, Math.signum(dirX) * maxDistance));
+
+        return Math.abs(moveY(x, y, w, h, Math.signum(dirY) * maxDistance));
+    }
+
+    // slab test, distance to where the ray enters the box or -1 when it misses
+    public static float intersectRay(float x, float y, float dirX, float dirY, float boxX, float boxY, float boxWidth, float boxHeight) {
+        var entry = 0f;
+        var exit = Float.MAX_VALUE;
+
+        if (dirX == 0) {
+            if (x < boxX || x > boxX + boxWidth)
+                return -1;
+        } else {
+            var t1 = (boxX - x) / dirX;
+            var t2 = (boxX + boxWidth - x) / dirX;
+            entry = Math.max(entry, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        if (dirY == 0) {
+            if (y < boxY || y > boxY + boxHeight)
+                return -1;
+        } else {
+            var t1 = (boxY - y) / dirY;
+            var t2 = (boxY + boxHeight - y) / dirY;
+            entry = Math.max(entry, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+
+        return entry <= exit ? entry : -1;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.lyze.parallelworlds.screens.game.collision;
+
+import java.nio.ByteBuffer;
+
+// slide contacts of an entity's last move, answers ground, ceiling and wall queries on the next tick without another broadphase query
+public class ContactCache {
+    private static final int NEVER = Integer.MIN_VALUE / 2;
+
+    private static final byte FLOOR = 1, CEILING = 2, WALL_LEFT = 4, WALL_RIGHT = 8;
+
+    private byte contacts;
+    private int tick = NEVER;
+
+    public void begin(int tick) {
+        this.tick = tick;
+        contacts = 0;
+    }
+
+    // up is the floor normal of the entity's world, -1 in the inverted world
+    public void add(float normalX, float normalY, int up) {
+        if (normalY != 0)
+            contacts |= normalY == up ? FLOOR : CEILING;
+        if (normalX > 0)
+            contacts |= WALL_LEFT;
+        else if (normalX < 0)
+            contacts |= WALL_RIGHT;
+    }
+
+    public void clear() {
+        tick = NEVER;
+        contacts = 0;
+    }
+
+    // contacts are only trusted when they come from the entity's last update, not from before it went dormant
+    private boolean has(byte contact, int lastUpdateTick) {
+        return (contacts & contact) != 0 && tick == lastUpdateTick;
+    }
+
+    public boolean isOnFloor(int lastUpdateTick) {
+        return has(FLOOR, lastUpdateTick);
+    }
+
+    public boolean isOnCeiling(int lastUpdateTick) {
+        return has(CEILING, lastUpdateTick);
+    }
+
+    public boolean isOnWallLeft(int lastUpdateTick) {
+        return has(WALL_LEFT, lastUpdateTick);
+    }
+
+    public boolean isOnWallRight(int lastUpdateTick) {
+        return has(WALL_RIGHT, lastUpdateTick);
+    }
+
+    public void write(ByteBuffer buffer) {
+        buffer.putInt(tick);
+        buffer.put(contacts);
+    }
+
+    public void read(ByteBuffer buffer) {
+        tick = buffer.getInt();
+        contacts = buffer.get();
+    }
+}
@@ -0,0 +1,59 @@
+package dev.lyze.parallelworlds.screens.game.collision;
+
+import com.dongbat.jbump.CollisionFilter;
+import com.dongbat.jbump.Collisions;
+import com.dongbat.jbump.Item;
+import com.dongbat.jbump.World;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import lombok.Getter;
+
+import java.util.ArrayList;
+
+// counts the broadphase queries, move and check both end up in project
+// project runs its narrow phase on per world scratch, jbump's own keeps static temporaries and two islands move at the same time
+public class CountingWorld extends World<Entity> {
+    @Getter
+    private long queryCount;
+
+    private final NarrowPhase narrowPhase = new NarrowPhase();
+    private final ArrayList<Item> candidates = new ArrayList<>();
+
+    public CountingWorld(float cellSize) {
+        super(cellSize);
+    }
+
+    @Override
+    public Collisions project(Item item, float x, float y, float w, float h, float goalX, float goalY, CollisionFilter filter, Collisions collisions) {
+        queryCount++;
+        collisions.clear();
+
+        // everything the swept rect overlaps, touching without moving into it isn't a collision
+        var left = Math.min(x, goalX);
+        var bottom = Math.min(y, goalY);
+        var right = Math.max(x, goalX) + w;
+        var top = Math.max(y, goalY) + h;
+
+        candidates.clear();
+        queryRect(left, bottom, right - left, top - bottom, CollisionFilter.defaultFilter, candidates);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            var other = candidates.get(i);
+            if (other == item)
+                continue;
+
+            var response = filter.filter(item, other);
+            if (response == null)
+                continue;
+
+            var rect = getRect(other);
+            if (!narrowPhase.detect(x, y, w, h, rect.x, rect.y, rect.w, rect.h, goalX, goalY))
+                continue;
+
+            collisions.add(narrowPhase.overlaps, narrowPhase.ti, goalX - x, goalY - y, narrowPhase.normalX, narrowPhase.normalY, narrowPhase.touchX, narrowPhase.touchY,
+                    x, y, w, h, rect.x, rect.y, rect.w, rect.h, item, other, response);
+        }
+
+        collisions.sort();
+        return collisions;
+    }
+}
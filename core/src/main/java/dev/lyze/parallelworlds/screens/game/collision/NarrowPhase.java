@@ -0,0 +1,117 @@
+package dev.lyze.parallelworlds.screens.game.collision;
+
+// jbump's rect collision math with the scratch values kept per world instead of in static fields, so worlds can move on different threads
+// same algorithm as bump.lua's rect_detectCollision: minkowski difference, then a liang-barsky sweep of the movement against it
+class NarrowPhase {
+    private static final float DELTA = 1e-5f;
+
+    // result of the last detect call
+    boolean overlaps;
+    float ti;
+    int normalX, normalY;
+    float touchX, touchY;
+
+    // scratch of the segment sweep
+    private float ti1, ti2;
+    private int nx1, ny1;
+
+    boolean detect(float x1, float y1, float w1, float h1, float x2, float y2, float w2, float h2, float goalX, float goalY) {
+        var dx = goalX - x1;
+        var dy = goalY - y1;
+
+        var x = x2 - x1 - w1;
+        var y = y2 - y1 - h1;
+        var w = w1 + w2;
+        var h = h1 + h2;
+
+        if (containsOrigin(x, y, w, h)) {
+            // already intersecting, ti is the negative area of the intersection
+            var px = nearest(0, x, x + w);
+            var py = nearest(0, y, y + h);
+            ti = -Math.min(w1, Math.abs(px)) * Math.min(h1, Math.abs(py));
+            overlaps = true;
+
+            if (dx == 0 && dy == 0) {
+                // not moving, push out along the smaller axis
+                if (Math.abs(px) < Math.abs(py))
+                    py = 0;
+                else
+                    px = 0;
+
+                normalX = (int) Math.signum(px);
+                normalY = (int) Math.signum(py);
+                touchX = x1 + px;
+                touchY = y1 + py;
+                return true;
+            }
+
+            // moving, back out against the movement
+            if (!sweep(x, y, w, h, dx, dy, -Float.MAX_VALUE, 1))
+                return false;
+
+            normalX = nx1;
+            normalY = ny1;
+            touchX = x1 + dx * ti1;
+            touchY = y1 + dy * ti1;
+            return true;
+        }
+
+        if (!sweep(x, y, w, h, dx, dy, -Float.MAX_VALUE, Float.MAX_VALUE))
+            return false;
+
+        // tunnels into the other rect, the corner case needs a minimum length
+        if (ti1 >= 1 || Math.abs(ti1 - ti2) < DELTA || !(0 < ti1 + DELTA || 0 == ti1 && ti2 > 0))
+            return false;
+
+        ti = ti1;
+        overlaps = false;
+        normalX = nx1;
+        normalY = ny1;
+        touchX = x1 + dx * ti;
+        touchY = y1 + dy * ti;
+        return true;
+    }
+
+    // liang-barsky clip of the segment (0, 0) -> (dx, dy) against the rect, keeps the entry index and normal
+    private boolean sweep(float x, float y, float w, float h, float dx, float dy, float from, float to) {
+        ti1 = from;
+        ti2 = to;
+        nx1 = ny1 = 0;
+
+        return clip(-1, 0, -dx, -x)
+                && clip(1, 0, dx, x + w)
+                && clip(0, -1, -dy, -y)
+                && clip(0, 1, dy, y + h);
+    }
+
+    private boolean clip(int nx, int ny, float p, float q) {
+        if (p == 0)
+            return q > 0;
+
+        var r = q / p;
+        if (p < 0) {
+            if (r > ti2)
+                return false;
+            if (r > ti1) {
+                ti1 = r;
+                nx1 = nx;
+                ny1 = ny;
+            }
+        } else {
+            if (r < ti1)
+                return false;
+            if (r < ti2)
+                ti2 = r;
+        }
+
+        return true;
+    }
+
+    private static boolean containsOrigin(float x, float y, float w, float h) {
+        return -x > DELTA && -y > DELTA && x + w > DELTA && y + h > DELTA;
+    }
+
+    private static float nearest(float value, float a, float b) {
+        return Math.abs(a - value) < Math.abs(b - value) ? a : b;
+    }
+}
@@ -0,0 +1,217 @@
+package dev.lyze.parallelworlds.screens.game.collision;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.SensorTile;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import lombok.Getter;
+
+// trigger volumes and sight blockers in a hashed grid, only the players query it for enter/stay/exit events
+// the cells only change between ticks, each island queries with its own scratch arrays while they tick next to each other
+public class SensorIndex {
+    private static final int CELL_SIZE = 4;
+
+    private static final int SIGHT_RAYS = 3;
+    private static final float SIGHT_INSET = 0.05f;
+
+    private final Level level;
+
+    private final IntMap<Array<Entity>> cells = new IntMap<>();
+    @Getter
+    private int sensorCount, blockerCount;
+
+    // sensors each player overlapped after its last move, the entries are made before the islands tick
+    private final ObjectMap<Player, Array<SensorTile>> contacts = new ObjectMap<>();
+    private final Query[] queries = { new Query(), new Query() };
+
+    public SensorIndex(Level level) {
+        this.level = level;
+    }
+
+    public void addPlayer(Player player) {
+        if (!contacts.containsKey(player))
+            contacts.put(player, new Array<>(false, 4));
+    }
+
+    public void add(SensorTile sensor) {
+        if (insert(sensor))
+            sensorCount++;
+    }
+
+    // static entities that block the players from being seen, like portals
+    public void addSightBlocker(Entity blocker) {
+        if (insert(blocker))
+            blockerCount++;
+    }
+
+    public void remove(SensorTile sensor) {
+        var removed = false;
+        var x1 = cell(sensor.getPosition().x);
+        var x2 = cell(sensor.getPosition().x + sensor.getWidth());
+        var y1 = cell(sensor.getPosition().y);
+        var y2 = cell(sensor.getPosition().y + sensor.getHeight());
+
+        for (int y = y1; y <= y2; y++) {
+            for (int x = x1; x <= x2; x++) {
+                var entities = cells.get(key(x, y));
+                if (entities != null)
+                    removed |= entities.removeValue(sensor, true);
+            }
+        }
+
+        if (removed)
+            sensorCount--;
+
+        for (Array<SensorTile> sensors : contacts.values())
+            sensors.removeValue(sensor, true);
+    }
+
+    private boolean insert(Entity entity) {
+        var inserted = false;
+        var x1 = cell(entity.getPosition().x);
+        var x2 = cell(entity.getPosition().x + entity.getWidth());
+        var y1 = cell(entity.getPosition().y);
+        var y2 = cell(entity.getPosition().y + entity.getHeight());
+
+        for (int y = y1; y <= y2; y++) {
+            for (int x = x1; x <= x2; x++) {
+                var entities = cells.get(key(x, y));
+                if (entities == null)
+                    cells.put(key(x, y), entities = new Array<>(false, 4));
+
+                if (!entities.contains(entity, true)) {
+                    entities.add(entity);
+                    inserted = true;
+                }
+            }
+        }
+
+        return inserted;
+    }
+
+    // forgets the overlaps, the next update reports every overlapped sensor as entered again
+    public void clearContacts() {
+        for (Array<SensorTile> sensors : contacts.values())
+            sensors.clear();
+    }
+
+    // static sensors trigger for every player, the others only for the players on their island
+    public void update(Player player) {
+        var previous = contacts.get(player);
+        var island = player.getIsland();
+        var query = queries[island].query;
+        var overlapping = queries[island].overlapping;
+
+        overlapping.clear();
+        queryRect(query, player.getPosition().x, player.getPosition().y, player.getWidth(), player.getHeight());
+        for (int i = 0; i < query.size; i++) {
+            var entity = query.get(i);
+            if (entity instanceof SensorTile && (entity.getIsland() < 0 || entity.getIsland() == island))
+                overlapping.add((SensorTile) entity);
+        }
+
+        for (int i = 0; i < overlapping.size; i++) {
+            var sensor = overlapping.get(i);
+            if (previous.contains(sensor, true))
+                sensor.onStay(player);
+            else
+                sensor.onEnter(player);
+        }
+
+        for (int i = 0; i < previous.size; i++) {
+            if (!overlapping.contains(previous.get(i), true))
+                previous.get(i).onExit(player);
+        }
+
+        previous.clear();
+        previous.addAll(overlapping);
+    }
+
+    // vertical line of sight, a few rays spread over the looker's width
+    public boolean canSeePlayer(Entity looker, float distance) {
+        var dirY = Math.signum(distance);
+        var y = distance < 0 ? looker.getPosition().y : looker.getPosition().y + looker.getHeight();
+
+        for (int i = 0; i < SIGHT_RAYS; i++) {
+            var x = looker.getPosition().x + SIGHT_INSET + (looker.getWidth() - 2 * SIGHT_INSET) * i / (SIGHT_RAYS - 1);
+            if (raycastPlayer(looker.getIsland(), x, y, 0, dirY, Math.abs(distance)) != null)
+                return true;
+        }
+
+        return false;
+    }
+
+    // first player of the island along the normalized ray, the static grid and the sight blockers cut it short
+    public Player raycastPlayer(int island, float x, float y, float dirX, float dirY, float maxDistance) {
+        var distance = level.getMap().getCollisionGrid().raycast(x, y, dirX, dirY, maxDistance);
+
+        var endX = x + dirX * distance;
+        var endY = y + dirY * distance;
+        var query = queries[island].query;
+        queryRect(query, Math.min(x, endX), Math.min(y, endY), Math.abs(endX - x), Math.abs(endY - y));
+        for (int i = 0; i < query.size; i++) {
+            var blocker = query.get(i);
+            if (blocker instanceof SensorTile)
+                continue;
+
+            var hit = CollisionGrid.intersectRay(x, y, dirX, dirY, blocker.getPosition().x, blocker.getPosition().y, blocker.getWidth(), blocker.getHeight());
+            if (hit >= 0 && hit < distance)
+                distance = hit;
+        }
+
+        Player closest = null;
+        for (Player player : level.getIslands()[island].getPlayers()) {
+            var hit = CollisionGrid.intersectRay(x, y, dirX, dirY, player.getPosition().x, player.getPosition().y, player.getWidth(), player.getHeight());
+            if (hit >= 0 && hit <= distance) {
+                distance = hit;
+                closest = player;
+            }
+        }
+
+        return closest;
+    }
+
+    private void queryRect(Array<Entity> query, float x, float y, float width, float height) {
+        query.clear();
+
+        var x1 = cell(x);
+        var x2 = cell(x + width);
+        var y1 = cell(y);
+        var y2 = cell(y + height);
+
+        for (int cy = y1; cy <= y2; cy++) {
+            for (int cx = x1; cx <= x2; cx++) {
+                var entities = cells.get(key(cx, cy));
+                if (entities == null)
+                    continue;
+
+                for (int i = 0; i < entities.size; i++) {
+                    var entity = entities.get(i);
+                    if (overlaps(entity, x, y, width, height) && !query.contains(entity, true))
+                        query.add(entity);
+                }
+            }
+        }
+    }
+
+    private static boolean overlaps(Entity entity, float x, float y, float width, float height) {
+        var position = entity.getPosition();
+        return position.x < x + width && x < position.x + entity.getWidth() && position.y < y + height && y < position.y + entity.getHeight();
+    }
+
+    private static int cell(float value) {
+        return (int) Math.floor(value / CELL_SIZE);
+    }
+
+    private static int key(int x, int y) {
+        return (x & 0xFFFF) | (y << 16);
+    }
+
+    private static class Query {
+        private final Array<SensorTile> overlapping = new Array<>();
+        private final Array<Entity> query = new Array<>();
+    }
+}
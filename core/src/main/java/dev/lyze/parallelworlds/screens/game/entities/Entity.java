@@ -7,10 +7,13 @@ import com.badlogic.gdx.math.Vector2;
 import com.dongbat.jbump.Item;
 import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.screens.game.Level;
-import dev.lyze.parallelworlds.utils.Vector3Pool;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 import space.earlygrey.shapedrawer.ShapeDrawer;
 
+import java.nio.ByteBuffer;
+
 public class Entity {
     protected final Level level;
 
@@ -22,6 +25,20 @@ public class Entity {
     @Getter
     protected Item<Entity> item;
 
+    // what the collision filters look this entity up as, the color mask is only set on players and portals
+    @Getter @Setter(AccessLevel.PROTECTED)
+    private int category = EntityCategory.NONE;
+    @Getter @Setter(AccessLevel.PROTECTED)
+    private int colorMask;
+
+    // tick of the last think and update, the activity manager catches up the ticks in between
+    @Getter @Setter
+    private int lastUpdateTick;
+
+    // index of the island this entity ticks on, -1 for static entities that take part in both
+    @Getter @Setter
+    private int island;
+
     public Entity(float x, float y, float width, float height, Level level) {
         this.level = level;
 
@@ -30,6 +47,18 @@ public class Entity {
         this.height = height;
     }
 
+    // picks the island, the inverted world is the lower one
+    public boolean isInvertedWorld() {
+        return false;
+    }
+
+    // intent for this tick, may run on another thread next to the other entities' think
+    // only touch this entity's own state and read what doesn't change during the tick (map, grid, tick)
+    public void think(float delta) {
+    }
+
+    // movement and everything that touches the island's world, in list order on the thread ticking the island
+    // reaching into the level or the other island goes through the level, which queues it for the barrier
     public void update(World<Entity> world, float delta) {
     }
 
@@ -41,7 +70,7 @@ public class Entity {
     }
 
     public void debugTextRender(BitmapFont font, Camera cam, SpriteBatch screenBatch) {
-        var pos = Vector3Pool.instance.obtain();
+        var pos = level.getContext().getVector3Pool().obtain();
         pos.set(position, 0);
         pos.add(width, height, 0);
 
@@ -49,10 +78,31 @@ public class Entity {
 
         font.draw(screenBatch, "Pos: " + position.x + "/" + position.y, pos.x, pos.y);
 
-        Vector3Pool.instance.free(pos);
+        level.getContext().getVector3Pool().free(pos);
     }
 
+    // rewind state, subclasses append their fields in the same order they read them
+    public void writeState(ByteBuffer buffer) {
+        buffer.putFloat(position.x);
+        buffer.putFloat(position.y);
+        buffer.putInt(lastUpdateTick);
+    }
+
+    public void readState(ByteBuffer buffer) {
+        position.set(buffer.getFloat(), buffer.getFloat());
+        lastUpdateTick = buffer.getInt();
+    }
+
+    // static entities share one item between the two island worlds, rewound entities come back with the one they had
     public void addToWorld(World<Entity> world) {
-        world.add(item = new Item<>(this), this.position.x, this.position.y, this.width, this.height);
+        if (item == null)
+            item = new Item<>(this);
+
+        world.add(item, this.position.x, this.position.y, this.width, this.height);
+    }
+
+    public void removeFromWorld(World<Entity> world) {
+        if (item != null && world.hasItem(item))
+            world.remove(item);
     }
 }
@@ -0,0 +1,17 @@
+package dev.lyze.parallelworlds.screens.game.entities;
+
+// small integer tags the collision filters index their response tables with
+public final class EntityCategory {
+    public static final int NONE = 0;
+    public static final int GROUND = 1;
+    public static final int ENEMY_BARRIER = 2;
+    public static final int PORTAL = 3;
+    public static final int PORTAL_DIRECTION = 4;
+    public static final int TILE = 5;
+    public static final int PLAYER = 6;
+
+    public static final int COUNT = 7;
+
+    private EntityCategory() {
+    }
+}
@@ -11,18 +11,23 @@ import dev.lyze.parallelworlds.screens.game.Level;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.nio.ByteBuffer;
+
 public class GravityEntity extends MoveableEntity {
     private static final Logger<GravityEntity> logger = new Logger<>(GravityEntity.class);
 
     private final float gravity = -1.8f;
 
+    private static final float DEFAULT_JUMP_FORCE = 0.80f;
+
     @Getter @Setter
-    private float jumpForce = 0.80f;
+    private float jumpForce = DEFAULT_JUMP_FORCE;
 
     @Getter @Setter
     private Animation<TextureAtlas.AtlasRegion> jump, fall;
 
-    private final double jumpAfterGroundLeftMax = 150;
+    // 150ms at the fixed 0.01s tick
+    private final int jumpAfterGroundLeftMaxTicks = 15;
 
     @Getter
     private boolean isJumping;
@@ -34,10 +39,57 @@ public class GravityEntity extends MoveableEntity {
     }
 
     @Override
-    public void update(World<Entity> world, float delta) {
+    public void reset() {
+        super.reset();
+
+        jumpForce = DEFAULT_JUMP_FORCE;
+        isJumping = false;
+        wantsToJump = false;
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+
+        buffer.putFloat(jumpForce);
+        buffer.put((byte) ((isJumping ? 1 : 0) | (wantsToJump ? 2 : 0)));
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+
+        jumpForce = buffer.getFloat();
+        var flags = buffer.get();
+        isJumping = (flags & 1) != 0;
+        wantsToJump = (flags & 2) != 0;
+    }
+
+    @Override
+    protected int indexOfAnimation(Animation<TextureAtlas.AtlasRegion> animation) {
+        if (animation != null && animation == jump)
+            return 4;
+        if (animation != null && animation == fall)
+            return 5;
+
+        return super.indexOfAnimation(animation);
+    }
+
+    @Override
+    protected Animation<TextureAtlas.AtlasRegion> animationAt(int index) {
+        if (index == 4)
+            return jump;
+        if (index == 5)
+            return fall;
+
+        return super.animationAt(index);
+    }
+
+    @Override
+    public void think(float delta) {
         applyGravity(delta);
         checkJump();
-        super.update(world, delta);
+        super.think(delta);
     }
 
     @Override
@@ -63,7 +115,7 @@ public class GravityEntity extends MoveableEntity {
         if (!wantsToJump)
             return;
 
-        if ((isGrounded() || (System.currentTimeMillis() - getLastGrounded()) < jumpAfterGroundLeftMax) && !isJumping)
+        if ((isGrounded() || (level.getTick() - getLastGroundedTick()) < jumpAfterGroundLeftMaxTicks) && !isJumping)
             jump();
     }
 
@@ -6,15 +6,22 @@ import com.badlogic.gdx.math.Vector2;
 import com.dongbat.jbump.*;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.collision.ContactCache;
+import dev.lyze.parallelworlds.screens.game.entities.enums.Lifecycle;
 import dev.lyze.parallelworlds.utils.MathUtils;
-import dev.lyze.parallelworlds.utils.Vector3Pool;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.nio.ByteBuffer;
+
 public class MoveableEntity extends Entity {
     private static final Logger<MoveableEntity> logger = new Logger<>(MoveableEntity.class);
 
+    private static final int NEVER_GROUNDED = Integer.MIN_VALUE / 2;
+    // bodies this far outside the map boundaries are gone for good
+    private static final float DESPAWN_MARGIN = 4f;
+
     private final float movementSpeedIncrease = 10f;
     private final float maxSpeed = 0.25f;
     private final float friction = 5f;
@@ -33,12 +40,13 @@ public class MoveableEntity extends Entity {
     private float animationXOffset;
 
     @Getter
-    private boolean isDead;
+    private Lifecycle lifecycle = Lifecycle.Alive;
 
     @Getter
     private boolean isGrounded;
+    // tick of the last ground contact, far in the past until the entity first lands
     @Getter
-    private double lastGrounded;
+    private int lastGroundedTick = NEVER_GROUNDED;
 
     @Getter @Setter
     private Animation<TextureAtlas.AtlasRegion> idle, run, death;
@@ -54,6 +62,10 @@ public class MoveableEntity extends Entity {
 
     @Getter
     private final Collisions tempCollisions = new Collisions();
+    private final Collision groundCollision = new Collision();
+
+    @Getter
+    private final ContactCache contacts = new ContactCache();
 
     @Getter
     private final GlyphLayout debugGlyphLayout = new GlyphLayout();
@@ -65,41 +77,48 @@ public class MoveableEntity extends Entity {
     }
 
     @Override
-    public void update(World<Entity> world, float delta) {
-        super.update(world, delta);
+    public void think(float delta) {
+        super.think(delta);
 
         animationTime += delta;
 
         setInput();
-        checkGround(world);
+        checkGround();
         checkMovementDirection();
 
         applyInput(delta);
         applyFriction(delta);
+    }
+
+    @Override
+    public void update(World<Entity> world, float delta) {
+        super.update(world, delta);
 
         beforeApplyVelocity(world, delta);
         checkCollisionsAndApplyVelocity(world, delta);
 
         updateAnimation();
+        updateLifecycle();
     }
 
-    private void checkGround(World<Entity> world) {
-        world.project(item, position.x, position.y, width, height, position.x, position.y - fixInverted(0.1f), getCollisionFilter(), getTempCollisions());
-        for (int i = 0; i < getTempCollisions().size(); i++) {
-            if (getTempCollisions().get(i).type.equals(Response.slide)) {
-                if (!isGrounded)
-                    landed();
-
-                lastGrounded = System.currentTimeMillis();
-                isGrounded = true;
-
-                return;
-            }
+    // the static ground is a grid lookup, everything else in the world comes from the contacts of the last move
+    private void checkGround() {
+        if (level.getMap().getCollisionGrid().overlaps(position.x, position.y - fixInverted(0.1f), width, height) || contacts.isOnFloor(getLastUpdateTick())) {
+            grounded();
+            return;
         }
 
         isGrounded = false;
     }
 
+    private void grounded() {
+        if (!isGrounded)
+            landed();
+
+        lastGroundedTick = level.getTick();
+        isGrounded = true;
+    }
+
     protected void landed() {
     }
 
@@ -127,7 +146,7 @@ public class MoveableEntity extends Entity {
     }
 
     protected void updateAnimation() {
-        if (isDead)
+        if (isDead())
             setAnimation(death);
         else if (velocity.x > 0 || velocity.x < 0)
             setAnimation(run);
@@ -146,21 +165,171 @@ public class MoveableEntity extends Entity {
         animationTime = 0;
     }
 
+    public void reset() {
+        velocity.setZero();
+        inputVelocity.setZero();
+        isFacingRight = true;
+        wantsToMoveLeft = wantsToMoveRight = 0;
+
+        lifecycle = Lifecycle.Alive;
+        isGrounded = false;
+        lastGroundedTick = NEVER_GROUNDED;
+
+        currentAnimation = null;
+        animationTime = 0;
+
+        contacts.clear();
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+
+        buffer.putFloat(velocity.x);
+        buffer.putFloat(velocity.y);
+        buffer.putFloat(wantsToMoveLeft);
+        buffer.putFloat(wantsToMoveRight);
+        buffer.putFloat(animationTime);
+        buffer.putInt(lastGroundedTick);
+        buffer.put((byte) indexOfAnimation(currentAnimation));
+        buffer.put((byte) ((isFacingRight ? 1 : 0) | (isDead() ? 2 : 0) | (isGrounded ? 4 : 0) | (invertedWorld ? 8 : 0) | (lifecycle == Lifecycle.Despawned ? 16 : 0)));
+        contacts.write(buffer);
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+
+        velocity.set(buffer.getFloat(), buffer.getFloat());
+        wantsToMoveLeft = buffer.getFloat();
+        wantsToMoveRight = buffer.getFloat();
+        animationTime = buffer.getFloat();
+        lastGroundedTick = buffer.getInt();
+        currentAnimation = animationAt(buffer.get());
+
+        var flags = buffer.get();
+        isFacingRight = (flags & 1) != 0;
+        lifecycle = (flags & 16) != 0 ? Lifecycle.Despawned : (flags & 2) != 0 ? Lifecycle.Dying : Lifecycle.Alive;
+        isGrounded = (flags & 4) != 0;
+        invertedWorld = (flags & 8) != 0;
+        contacts.read(buffer);
+    }
+
+    protected int indexOfAnimation(Animation<TextureAtlas.AtlasRegion> animation) {
+        if (animation == null)
+            return 0;
+        if (animation == idle)
+            return 1;
+        if (animation == run)
+            return 2;
+        if (animation == death)
+            return 3;
+
+        return 0;
+    }
+
+    protected Animation<TextureAtlas.AtlasRegion> animationAt(int index) {
+        switch (index) {
+            case 1:
+                return idle;
+            case 2:
+                return run;
+            case 3:
+                return death;
+            default:
+                return null;
+        }
+    }
+
+    public boolean isDead() {
+        return lifecycle != Lifecycle.Alive;
+    }
+
     public void die() {
-        if (!isDead)
-            isDead = true;
+        if (lifecycle == Lifecycle.Alive)
+            lifecycle = Lifecycle.Dying;
+    }
+
+    // players stay in the level, they restart it instead
+    protected boolean canDespawn() {
+        return true;
+    }
+
+    public void despawn() {
+        if (lifecycle == Lifecycle.Despawned || !canDespawn())
+            return;
+
+        lifecycle = Lifecycle.Despawned;
+        level.removeEntity(this);
+    }
+
+    private void updateLifecycle() {
+        if (lifecycle == Lifecycle.Dying && (death == null || (currentAnimation == death && death.isAnimationFinished(animationTime)))) {
+            despawn();
+            return;
+        }
+
+        var boundaries = level.getMap().getBoundaries();
+        if (position.x + width < boundaries.x - DESPAWN_MARGIN || position.x > boundaries.x + boundaries.width + DESPAWN_MARGIN
+                || position.y + height < boundaries.y - DESPAWN_MARGIN || position.y > boundaries.y + boundaries.height + DESPAWN_MARGIN)
+            despawn();
     }
 
     private void checkCollisionsAndApplyVelocity(World<Entity> world, float delta) {
-        if (isDead)
+        if (isDead())
             return;
 
-        var response = world.move(item, position.x + velocity.x, position.y + velocity.y, collisionFilter);
+        var grid = level.getMap().getCollisionGrid();
+        var moveX = grid.moveX(position.x, position.y, width, height, velocity.x);
+        var moveY = grid.moveY(position.x + moveX, position.y, width, height, velocity.y);
+
+        var response = world.move(item, position.x + moveX, position.y + moveY, collisionFilter);
+
+        // jbump slides along the dynamic colliders without knowing the ground, sweep its displacement through the grid again
+        var slideX = response.goalX - position.x;
+        var slideY = response.goalY - position.y;
+        var finalX = position.x + grid.moveX(position.x, position.y, width, height, slideX);
+        var finalY = position.y + grid.moveY(finalX, position.y, width, height, slideY);
+        if (finalX != response.goalX || finalY != response.goalY)
+            world.update(item, finalX, finalY);
+
+        var slideHitWall = finalX - position.x != slideX;
+        var slideHitFloorOrCeiling = finalY - position.y != slideY;
+        var hitWall = moveX != velocity.x || slideHitWall;
+        var hitFloorOrCeiling = moveY != velocity.y || slideHitFloorOrCeiling;
+        var wallNormal = (slideHitWall ? slideX : velocity.x) > 0 ? -1 : 1;
+        var floorNormal = (slideHitFloorOrCeiling ? slideY : velocity.y) > 0 ? -1 : 1;
+
+        var up = (int) fixInverted(1);
+        contacts.begin(level.getTick());
+        if (hitWall) {
+            contacts.add(wallNormal, 0, up);
+            onCollision(groundCollision(wallNormal, 0));
+        }
+        if (hitFloorOrCeiling) {
+            contacts.add(0, floorNormal, up);
+            onCollision(groundCollision(0, floorNormal));
+        }
+
+        for (int i = 0; i < response.projectedCollisions.size(); i++) {
+            var collision = response.projectedCollisions.get(i);
+            if (collision.type == Response.slide)
+                contacts.add(collision.normal.x, collision.normal.y, up);
+
+            onCollision(collision);
+        }
+
+        position.set(finalX, finalY);
+    }
 
-        for (int i = 0; i < response.projectedCollisions.size(); i++)
-            onCollision(response.projectedCollisions.get(i));
+    private Collision groundCollision(int normalX, int normalY) {
+        groundCollision.item = item;
+        groundCollision.other = level.getMap().getCollisionGrid().getGroundItem();
+        groundCollision.type = Response.slide;
+        groundCollision.normal.x = normalX;
+        groundCollision.normal.y = normalY;
 
-        position.set(response.goalX, response.goalY);
+        return groundCollision;
     }
 
     protected void onCollision(Collision collision) {
@@ -208,7 +377,7 @@ public class MoveableEntity extends Entity {
     }
 
     public void debugTextRender(BitmapFont font, Camera cam, SpriteBatch screenBatch) {
-        var pos = Vector3Pool.instance.obtain();
+        var pos = level.getContext().getVector3Pool().obtain();
         pos.set(position, 0);
         cam.project(pos);
 
@@ -222,6 +391,6 @@ public class MoveableEntity extends Entity {
         debugGlyphLayout.setText(font, str);
         font.draw(screenBatch, str, pos.x - debugGlyphLayout.width / 2f, pos.y + debugGlyphLayout.height*2);
 
-        Vector3Pool.instance.free(pos);
+        level.getContext().getVector3Pool().free(pos);
     }
 }
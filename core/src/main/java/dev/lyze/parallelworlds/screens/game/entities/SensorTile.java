@@ -0,0 +1,41 @@
+package dev.lyze.parallelworlds.screens.game.entities;
+
+import com.dongbat.jbump.World;
+import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+
+// non solid trigger volume, lives in the level's sensor index instead of the jbump world
+public class SensorTile extends TileEntity {
+    public SensorTile(float x, float y, float width, float height, Level level) {
+        super(x, y, width, height, level);
+    }
+
+    // sensors that should still stop some movers, they get a world item next to the sensor
+    protected boolean isSolid() {
+        return false;
+    }
+
+    @Override
+    public void addToWorld(World<Entity> world) {
+        level.getSensors().add(this);
+
+        if (isSolid())
+            super.addToWorld(world);
+    }
+
+    @Override
+    public void removeFromWorld(World<Entity> world) {
+        level.getSensors().remove(this);
+
+        super.removeFromWorld(world);
+    }
+
+    public void onEnter(Player player) {
+    }
+
+    public void onStay(Player player) {
+    }
+
+    public void onExit(Player player) {
+    }
+}
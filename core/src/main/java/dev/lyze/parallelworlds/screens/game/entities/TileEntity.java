@@ -10,5 +10,7 @@ public class TileEntity extends Entity {
     private boolean hitbox;
     public TileEntity(float x, float y, float width, float height, Level level) {
         super(x, y, width, height, level);
+
+        setCategory(EntityCategory.TILE);
     }
 }
@@ -11,6 +11,8 @@ public abstract class LinkedEnemy extends MoveableEntity {
     private static final Logger<LinkedEnemy> logger = new Logger<>(LinkedEnemy.class);
 
     protected final LinkedEnemyKillPart linkedEnemyKillPart;
+    // written by the kill part between ticks, it lives on the other island
+    protected boolean linkedPartDead;
 
     public LinkedEnemy(float x, float y, Level level, int partsOffset, boolean invertedWorld) {
         super(x, y + partsOffset, 2, 1.4f, level, SnailEnemyCollisionFilter.instance);
@@ -1,5 +1,6 @@
 package dev.lyze.parallelworlds.screens.game.entities.enemies.linked;
 
+import com.badlogic.gdx.math.Vector2;
 import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.screens.game.Level;
@@ -11,6 +12,9 @@ public class LinkedEnemyKillPart extends MoveableEntity {
     private static final Logger<LinkedEnemyKillPart> logger = new Logger<>(LinkedEnemyKillPart.class);
 
     protected final LinkedEnemy linkedEnemy;
+    // the enemy lives on the other island, its state is exchanged once per tick before either island moves
+    protected final Vector2 linkedPosition = new Vector2();
+    private boolean linkedFacingRight = true;
 
     public LinkedEnemyKillPart(float x, float y, Level level, int partsOffset, LinkedEnemy linkedEnemy, boolean invertedWorld) {
         super(x, y - partsOffset, 2, 1.4f, level, SnailEnemyCollisionFilter.instance);
@@ -19,11 +23,18 @@ public class LinkedEnemyKillPart extends MoveableEntity {
         setInvertedWorld(invertedWorld);
     }
 
+    // runs between ticks, the only time both islands stand still
+    public void exchangeLink() {
+        linkedPosition.set(linkedEnemy.getPosition());
+        linkedFacingRight = linkedEnemy.isFacingRight();
+        linkedEnemy.linkedPartDead = isDead();
+    }
+
     @Override
     public void update(World<Entity> world, float delta) {
         super.update(world, delta);
 
-        this.position.x = this.linkedEnemy.getPosition().x;
-        setFacingRight(linkedEnemy.isFacingRight());
+        this.position.x = linkedPosition.x;
+        setFacingRight(linkedFacingRight);
     }
 }
@@ -7,16 +7,14 @@ import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.screens.game.Level;
 import dev.lyze.parallelworlds.screens.game.entities.Entity;
-import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemy;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemyKillPart;
-import dev.lyze.parallelworlds.screens.game.entities.filters.BatCheckForPlayerCollisionFilter;
 import dev.lyze.parallelworlds.screens.game.entities.filters.BatEnemyCollisionFilter;
-import dev.lyze.parallelworlds.screens.game.entities.impl.PortalTile;
 import dev.lyze.parallelworlds.screens.game.entities.players.Player;
-import dev.lyze.parallelworlds.statics.Statics;
 import lombok.Getter;
 
+import java.nio.ByteBuffer;
+
 public class BatEnemy extends LinkedEnemy {
     private static final Logger<BatEnemy> logger = new Logger<>(BatEnemy.class);
 
@@ -32,8 +30,8 @@ public class BatEnemy extends LinkedEnemy {
 
         startY = position.y;
 
-        setRun(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getBat_walk(), Animation.PlayMode.LOOP));
-        setDeath(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getBat_death(), Animation.PlayMode.NORMAL));
+        setRun(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getBat_walk(), Animation.PlayMode.LOOP));
+        setDeath(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getBat_death(), Animation.PlayMode.NORMAL));
 
         setAnimationXOffset(-0.6f);
 
@@ -44,40 +42,34 @@ public class BatEnemy extends LinkedEnemy {
     public void update(World<Entity> world, float delta) {
         super.update(world, delta);
 
-        if (linkedEnemyKillPart.isDead()) {
+        if (linkedPartDead) {
             wantsToMoveLeft = 0;
             wantsToMoveRight = 0;
             return;
         }
 
-        if (checkPlayerUnderMe(world) && state == State.Idle) {
-            Statics.assets.getSound().playSmallPitch(Statics.assets.getSound().getJump3());
+        if (state == State.Idle && level.getSensors().canSeePlayer(this, -fixInverted(20f))) {
+            level.getAudio().playSmallPitch(level.getContext().getAssets().getSound().getJump3());
             state = State.SwoopDown;
         }
 
         calculateMovement(world);
     }
 
-    private boolean checkPlayerUnderMe(World<Entity> world) {
-        world.project(item, position.x, position.y, width, height, position.x, position.y - fixInverted(20f), BatCheckForPlayerCollisionFilter.instance, getTempCollisions());
-
-        for (int i = 0; i < getTempCollisions().size(); i++) {
-            var collision = getTempCollisions().get(i);
-            var userData = collision.other.userData;
-            if (userData instanceof TileEntity) {
-                var tileEntity = (TileEntity) userData;
-                if (tileEntity.isHitbox())
-                    return false;
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
 
-                if (tileEntity instanceof PortalTile)
-                    return false;
-            }
+        buffer.put((byte) state.ordinal());
+        buffer.put((byte) (currentlyMoveRight ? 1 : 0));
+    }
 
-            if (userData instanceof Player)
-                return true;
-        }
+    @Override
+    public void readState(ByteBuffer buffer) {
+        super.readState(buffer);
 
-        return false;
+        state = State.values()[buffer.get()];
+        currentlyMoveRight = buffer.get() != 0;
     }
 
     private void calculateMovement(World<Entity> world) {
@@ -8,9 +8,7 @@ import dev.lyze.parallelworlds.screens.game.Level;
 import dev.lyze.parallelworlds.screens.game.entities.Entity;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemy;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemyKillPart;
-import dev.lyze.parallelworlds.screens.game.entities.particles.ParticlesExplosion;
 import dev.lyze.parallelworlds.screens.game.entities.players.Player;
-import dev.lyze.parallelworlds.statics.Statics;
 
 public class BatEnemyKillPart extends LinkedEnemyKillPart {
     private static final Logger<BatEnemyKillPart> logger = new Logger<>(BatEnemyKillPart.class);
@@ -22,8 +20,8 @@ public class BatEnemyKillPart extends LinkedEnemyKillPart {
 
         this.startY = this.position.y;
 
-        setRun(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getBatsoul_walk(), Animation.PlayMode.LOOP));
-        setDeath(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getBatsoul_death(), Animation.PlayMode.NORMAL));
+        setRun(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getBatsoul_walk(), Animation.PlayMode.LOOP));
+        setDeath(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getBatsoul_death(), Animation.PlayMode.NORMAL));
 
         setAnimationXOffset(-0.6f);
     }
@@ -32,7 +30,7 @@ public class BatEnemyKillPart extends LinkedEnemyKillPart {
     public void update(World<Entity> world, float delta) {
         super.update(world, delta);
 
-        this.position.y = startY + (((BatEnemy) linkedEnemy).getStartY() - linkedEnemy.getPosition().y);
+        this.position.y = startY + (((BatEnemy) linkedEnemy).getStartY() - linkedPosition.y);
     }
 
     @Override
@@ -51,12 +49,12 @@ public class BatEnemyKillPart extends LinkedEnemyKillPart {
             return;
 
         logger.logInfo("Ohno I died");
-        Statics.assets.getSound().playBigPitch(Statics.assets.getSound().getSword1());
-        linkedEnemy.die();
+        level.getAudio().playBigPitch(level.getContext().getAssets().getSound().getSword1());
+        level.killLinked(linkedEnemy);
         die();
 
         for (int i = 0; i < 10; i++) {
-            level.addEntity(new ParticlesExplosion(linkedEnemy.getPosition().x, linkedEnemy.getPosition().y, level, !isInvertedWorld()));
+            level.spawnParticles(linkedPosition.x, linkedPosition.y, !isInvertedWorld());
         }
     }
 }
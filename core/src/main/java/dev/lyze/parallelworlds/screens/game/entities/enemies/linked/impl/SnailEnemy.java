@@ -3,14 +3,13 @@ package dev.lyze.parallelworlds.screens.game.entities.enemies.linked.impl;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.dongbat.jbump.Collision;
 import com.dongbat.jbump.Response;
-import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.screens.game.Level;
-import dev.lyze.parallelworlds.screens.game.entities.Entity;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemy;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemyKillPart;
 import dev.lyze.parallelworlds.screens.game.entities.players.Player;
-import dev.lyze.parallelworlds.statics.Statics;
+
+import java.nio.ByteBuffer;
 
 public class SnailEnemy extends LinkedEnemy {
     private static final Logger<SnailEnemy> logger = new Logger<>(SnailEnemy.class);
@@ -20,17 +19,22 @@ public class SnailEnemy extends LinkedEnemy {
     public SnailEnemy(float x, float y, Level level, int partsOffset, boolean invertedGravity) {
         super(x, y, level, partsOffset, invertedGravity);
 
-        setRun(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getSnail_walk(), Animation.PlayMode.LOOP));
-        setDeath(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getSnail_death(), Animation.PlayMode.NORMAL));
+        setRun(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getSnail_walk(), Animation.PlayMode.LOOP));
+        setDeath(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getSnail_death(), Animation.PlayMode.NORMAL));
 
         setAnimationXOffset(-0.6f);
     }
 
+    // the kill part's death is exchanged between ticks, reading it here is safe
     @Override
-    public void update(World<Entity> world, float delta) {
-        super.update(world, delta);
+    public void think(float delta) {
+        decideMovement();
+
+        super.think(delta);
+    }
 
-        if (linkedEnemyKillPart.isDead()) {
+    private void decideMovement() {
+        if (linkedPartDead) {
             wantsToMoveLeft = 0;
             wantsToMoveRight = 0;
             return;
@@ -46,6 +50,20 @@ public class SnailEnemy extends LinkedEnemy {
         }
     }
 
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+
+        buffer.put((byte) (currentlyMoveRight ? 1 : 0));
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+
+        currentlyMoveRight = buffer.get() != 0;
+    }
+
     @Override
     protected LinkedEnemyKillPart createEnemyKillPart(float x, float y, Level level, int partsOffset, boolean invertedGravity) {
         return new SnailEnemyKillPart(x, y, level, partsOffset,this, !invertedGravity);
@@ -8,9 +8,7 @@ import dev.lyze.parallelworlds.screens.game.Level;
 import dev.lyze.parallelworlds.screens.game.entities.Entity;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemy;
 import dev.lyze.parallelworlds.screens.game.entities.enemies.linked.LinkedEnemyKillPart;
-import dev.lyze.parallelworlds.screens.game.entities.particles.ParticlesExplosion;
 import dev.lyze.parallelworlds.screens.game.entities.players.Player;
-import dev.lyze.parallelworlds.statics.Statics;
 
 public class SnailEnemyKillPart extends LinkedEnemyKillPart {
     private static final Logger<SnailEnemyKillPart> logger = new Logger<>(SnailEnemyKillPart.class);
@@ -18,8 +16,8 @@ public class SnailEnemyKillPart extends LinkedEnemyKillPart {
     public SnailEnemyKillPart(float x, float y, Level level, int partsOffset, LinkedEnemy linkedEnemy, boolean invertedGravity) {
         super(x, y, level, partsOffset, linkedEnemy, invertedGravity);
 
-        setRun(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getSnailsoul_walk(), Animation.PlayMode.LOOP));
-        setDeath(new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getSnailsoul_death(), Animation.PlayMode.NORMAL));
+        setRun(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getSnailsoul_walk(), Animation.PlayMode.LOOP));
+        setDeath(new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getSnailsoul_death(), Animation.PlayMode.NORMAL));
 
         setAnimationXOffset(-0.6f);
     }
@@ -45,12 +43,12 @@ public class SnailEnemyKillPart extends LinkedEnemyKillPart {
             return;
 
         logger.logInfo("Ohno I died");
-        Statics.assets.getSound().playBigPitch(Statics.assets.getSound().getSword1());
-        linkedEnemy.die();
+        level.getAudio().playBigPitch(level.getContext().getAssets().getSound().getSword1());
+        level.killLinked(linkedEnemy);
         die();
 
         for (int i = 0; i < 10; i++) {
-            level.addEntity(new ParticlesExplosion(linkedEnemy.getPosition().x, linkedEnemy.getPosition().y, level, !isInvertedWorld()));
+            level.spawnParticles(linkedPosition.x, linkedPosition.y, !isInvertedWorld());
         }
     }
 }
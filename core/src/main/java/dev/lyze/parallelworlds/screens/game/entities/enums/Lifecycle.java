@@ -0,0 +1,6 @@
+package dev.lyze.parallelworlds.screens.game.entities.enums;
+
+// alive -> dying while the death animation plays -> despawned and out of the level
+public enum Lifecycle {
+    Alive, Dying, Despawned
+}
@@ -13,4 +13,8 @@ public enum PlayerColor {
     PlayerColor(Color renderColor) {
         this.renderColor = renderColor;
     }
+
+    public int getMask() {
+        return 1 << ordinal();
+    }
 }
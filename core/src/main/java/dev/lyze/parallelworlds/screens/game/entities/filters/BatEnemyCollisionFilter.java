@@ -1,29 +1,24 @@
 package dev.lyze.parallelworlds.screens.game.entities.filters;
 
-import com.dongbat.jbump.CollisionFilter;
-import com.dongbat.jbump.Item;
 import com.dongbat.jbump.Response;
-import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
-import dev.lyze.parallelworlds.screens.game.entities.impl.PortalDirectionTile;
-import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
 
-public class BatEnemyCollisionFilter implements CollisionFilter {
+public class BatEnemyCollisionFilter extends CategoryCollisionFilter {
     public static final BatEnemyCollisionFilter instance = new BatEnemyCollisionFilter();
 
     @Override
-    public Response filter(Item item, Item other) {
-        if (other.userData instanceof TileEntity) {
-            var tileEntity = (TileEntity) other.userData;
-            if (tileEntity.isHitbox())
+    protected Response response(int item, int other, boolean colorMatches) {
+        if (isTile(other)) {
+            if (isHitbox(other))
                 return Response.slide;
 
-            if (tileEntity instanceof PortalDirectionTile)
+            if (other == EntityCategory.PORTAL_DIRECTION)
                 return Response.slide;
 
             return null;
         }
 
-        if (other.userData instanceof Player)
+        if (other == EntityCategory.PLAYER)
             return Response.cross;
 
         return null;
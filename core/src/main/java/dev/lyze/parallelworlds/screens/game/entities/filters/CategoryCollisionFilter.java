@@ -0,0 +1,43 @@
+package dev.lyze.parallelworlds.screens.game.entities.filters;
+
+import com.dongbat.jbump.CollisionFilter;
+import com.dongbat.jbump.Item;
+import com.dongbat.jbump.Response;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
+
+// resolves every (category, category, color match) combination once, filtering a pair is then a single array load
+public abstract class CategoryCollisionFilter implements CollisionFilter {
+    private final Response[] responses = new Response[EntityCategory.COUNT * EntityCategory.COUNT * 2];
+
+    protected CategoryCollisionFilter() {
+        for (int item = 0; item < EntityCategory.COUNT; item++) {
+            for (int other = 0; other < EntityCategory.COUNT; other++) {
+                responses[index(item, other, false)] = response(item, other, false);
+                responses[index(item, other, true)] = response(item, other, true);
+            }
+        }
+    }
+
+    protected abstract Response response(int item, int other, boolean colorMatches);
+
+    @Override
+    public Response filter(Item item, Item other) {
+        var itemEntity = (Entity) item.userData;
+        var otherEntity = (Entity) other.userData;
+
+        return responses[index(itemEntity.getCategory(), otherEntity.getCategory(), (itemEntity.getColorMask() & otherEntity.getColorMask()) != 0)];
+    }
+
+    private static int index(int item, int other, boolean colorMatches) {
+        return ((item * EntityCategory.COUNT + other) << 1) | (colorMatches ? 1 : 0);
+    }
+
+    protected static boolean isHitbox(int category) {
+        return category == EntityCategory.GROUND || category == EntityCategory.ENEMY_BARRIER;
+    }
+
+    protected static boolean isTile(int category) {
+        return category >= EntityCategory.GROUND && category <= EntityCategory.TILE;
+    }
+}
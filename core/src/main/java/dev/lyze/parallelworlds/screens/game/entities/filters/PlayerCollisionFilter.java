@@ -1,44 +1,35 @@
 package dev.lyze.parallelworlds.screens.game.entities.filters;
 
-import com.dongbat.jbump.CollisionFilter;
-import com.dongbat.jbump.Item;
 import com.dongbat.jbump.Response;
-import dev.lyze.parallelworlds.screens.game.entities.impl.EnemyBarrierTile;
-import dev.lyze.parallelworlds.screens.game.entities.players.Player;
-import dev.lyze.parallelworlds.screens.game.entities.impl.PortalTile;
-import dev.lyze.parallelworlds.screens.game.entities.impl.PortalDirectionTile;
-import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
 
-public class PlayerCollisionFilter implements  CollisionFilter {
+public class PlayerCollisionFilter extends CategoryCollisionFilter {
     public static final PlayerCollisionFilter instance = new PlayerCollisionFilter();
 
     @Override
-    public Response filter(Item item, Item other) {
-        if (!(item.userData instanceof Player))
+    protected Response response(int item, int other, boolean colorMatches) {
+        if (item != EntityCategory.PLAYER)
             return null;
 
-        if (other.userData instanceof PortalDirectionTile)
-            return Response.cross;
-
-        if (other.userData instanceof PortalTile) {
-            var portal = (PortalTile) other.userData;
-            if (portal.getColor() == null || portal.getColor() == ((Player) item.userData).getColor())
-                return Response.cross;
+        // direction blocks reach the players through the sensor index
+        if (other == EntityCategory.PORTAL_DIRECTION)
+            return null;
 
-            return Response.slide;
-        }
+        // a portal without a color lets both players through
+        if (other == EntityCategory.PORTAL)
+            return colorMatches ? Response.cross : Response.slide;
 
-        if (other.userData instanceof EnemyBarrierTile)
+        if (other == EntityCategory.ENEMY_BARRIER)
             return null;
 
-        if (other.userData instanceof TileEntity) {
-            if (((TileEntity) other.userData).isHitbox())
+        if (isTile(other)) {
+            if (isHitbox(other))
                 return Response.slide;
 
             return Response.cross;
         }
 
-        if (other.userData instanceof Player)
+        if (other == EntityCategory.PLAYER)
             return Response.slide;
 
         return null;
@@ -1,20 +1,17 @@
 package dev.lyze.parallelworlds.screens.game.entities.filters;
 
-import com.dongbat.jbump.CollisionFilter;
-import com.dongbat.jbump.Item;
 import com.dongbat.jbump.Response;
-import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
-import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
 
-public class SnailEnemyCollisionFilter implements CollisionFilter {
+public class SnailEnemyCollisionFilter extends CategoryCollisionFilter {
     public static final SnailEnemyCollisionFilter instance = new SnailEnemyCollisionFilter();
 
     @Override
-    public Response filter(Item item, Item other) {
-        if (other.userData instanceof TileEntity)
-            return ((TileEntity) other.userData).isHitbox() ? Response.slide : null;
+    protected Response response(int item, int other, boolean colorMatches) {
+        if (isTile(other))
+            return isHitbox(other) ? Response.slide : null;
 
-        if (other.userData instanceof Player)
+        if (other == EntityCategory.PLAYER)
             return Response.cross;
 
         return null;
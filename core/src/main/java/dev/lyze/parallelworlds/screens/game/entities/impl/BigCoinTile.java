@@ -3,21 +3,20 @@ package dev.lyze.parallelworlds.screens.game.entities.impl;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.dongbat.jbump.Collision;
 import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.screens.game.Level;
 import dev.lyze.parallelworlds.screens.game.entities.Entity;
-import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
-import dev.lyze.parallelworlds.screens.game.entities.filters.CoinsColliderFilter;
-import dev.lyze.parallelworlds.screens.game.entities.particles.ParticlesExplosion;
+import dev.lyze.parallelworlds.screens.game.entities.SensorTile;
 import dev.lyze.parallelworlds.screens.game.entities.players.Player;
-import dev.lyze.parallelworlds.statics.Statics;
 
-public class BigCoinTile extends TileEntity {
-    private final Animation<TextureAtlas.AtlasRegion> animation = new Animation<>(0.1f, Statics.assets.getGame().getCharactersAtlas().getCoins_bigCoin(), Animation.PlayMode.LOOP_PINGPONG);
+import java.nio.ByteBuffer;
+
+public class BigCoinTile extends SensorTile {
+    private final Animation<TextureAtlas.AtlasRegion> animation = new Animation<>(0.1f, level.getContext().getAssets().getGame().getCharactersAtlas().getCoins_bigCoin(), Animation.PlayMode.LOOP_PINGPONG);
 
     private float animationTime;
     private boolean invertedGravity;
+    private boolean collected;
 
     public BigCoinTile(float x, float y, Level level, boolean invertedGravity) {
         super(x, y, 2, 2, level);
@@ -25,25 +24,44 @@ public class BigCoinTile extends TileEntity {
         this.invertedGravity = invertedGravity;
     }
 
+    @Override
+    public boolean isInvertedWorld() {
+        return invertedGravity;
+    }
+
     @Override
     public void update(World<Entity> world, float delta) {
         super.update(world, delta);
 
         this.animationTime += delta;
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+
+        buffer.putFloat(animationTime);
+        buffer.put((byte) (collected ? 1 : 0));
+    }
 
-        var response = world.move(item, position.x, position.y, CoinsColliderFilter.instance);
-        for (int i = 0; i < response.projectedCollisions.size(); i++)
-            onCollision(response.projectedCollisions.get(i));
+    @Override
+    public void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+
+        animationTime = buffer.getFloat();
+        collected = buffer.get() != 0;
     }
 
-    private void onCollision(Collision collision) {
-        if (!(collision.other.userData instanceof Player))
+    @Override
+    public void onEnter(Player player) {
+        if (collected)
             return;
 
-        Statics.assets.getSound().play(Statics.assets.getSound().getCoinTotalWin1(), Statics.assets.getSound().getCoinTotalWin2());
+        collected = true;
+        level.getAudio().play(level.getContext().getAssets().getSound().getCoinTotalWin1(), level.getContext().getAssets().getSound().getCoinTotalWin2());
 
         for (int i = 0; i < 25; i++) {
-            level.addEntity(new ParticlesExplosion(position.x, position.y, level, invertedGravity));
+            level.spawnParticles(position.x, position.y, invertedGravity);
         }
 
         level.removeEntity(this);
@@ -1,10 +1,17 @@
 package dev.lyze.parallelworlds.screens.game.entities.impl;
 
 import dev.lyze.parallelworlds.screens.game.Level;
-import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
+import dev.lyze.parallelworlds.screens.game.entities.SensorTile;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
 
-public class ExitTile extends TileEntity {
+public class ExitTile extends SensorTile {
     public ExitTile(float x, float y, Level level) {
         super(x, y, 1, 1, level);
     }
+
+    @Override
+    public void onEnter(Player player) {
+        level.getAudio().play(level.getContext().getAssets().getSound().getLongSlideUp(), 0.5f);
+        level.loadNextLevel();
+    }
 }
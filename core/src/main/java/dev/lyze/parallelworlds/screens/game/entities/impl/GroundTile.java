@@ -1,6 +1,7 @@
 package dev.lyze.parallelworlds.screens.game.entities.impl;
 
 import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
 import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
 
 public class GroundTile extends TileEntity {
@@ -8,5 +9,6 @@ public class GroundTile extends TileEntity {
         super(x, y, width, height, level);
 
         setHitbox(true);
+        setCategory(EntityCategory.GROUND);
     }
 }
@@ -1,16 +1,36 @@
 package dev.lyze.parallelworlds.screens.game.entities.impl;
 
 import dev.lyze.parallelworlds.screens.game.Level;
-import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
+import dev.lyze.parallelworlds.screens.game.entities.SensorTile;
 import dev.lyze.parallelworlds.screens.game.entities.enums.Direction;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
 import lombok.Getter;
 
-public class PortalDirectionTile extends TileEntity {
+public class PortalDirectionTile extends SensorTile {
     @Getter
     private final Direction direction;
 
     public PortalDirectionTile(float x, float y, Level level, Direction direction) {
         super(x, y, 1, 1, level);
         this.direction = direction;
+
+        setCategory(EntityCategory.PORTAL_DIRECTION);
+    }
+
+    // bats still turn around at direction blocks
+    @Override
+    protected boolean isSolid() {
+        return true;
+    }
+
+    @Override
+    public void onEnter(Player player) {
+        player.setPortalDirection(direction);
+    }
+
+    @Override
+    public void onStay(Player player) {
+        player.setPortalDirection(direction);
     }
 }
@@ -1,6 +1,9 @@
 package dev.lyze.parallelworlds.screens.game.entities.impl;
 
+import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
 import dev.lyze.parallelworlds.screens.game.entities.TileEntity;
 import dev.lyze.parallelworlds.screens.game.entities.enums.PlayerColor;
 import lombok.Getter;
@@ -12,5 +15,16 @@ public class PortalTile extends TileEntity {
     public PortalTile(float x, float y, Level level, PlayerColor color) {
         super(x, y, 1, 1, level);
         this.color = color;
+
+        setCategory(EntityCategory.PORTAL);
+        setColorMask(color == null ? ~0 : color.getMask());
+    }
+
+    @Override
+    public void addToWorld(World<Entity> world) {
+        super.addToWorld(world);
+
+        // bats can't see the players through portals
+        level.getSensors().addSightBlocker(this);
     }
 }
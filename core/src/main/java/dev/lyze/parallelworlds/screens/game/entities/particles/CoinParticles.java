@@ -0,0 +1,340 @@
+package dev.lyze.parallelworlds.screens.game.entities.particles;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import dev.lyze.parallelworlds.utils.MathUtils;
+import lombok.Getter;
+import space.earlygrey.shapedrawer.ShapeDrawer;
+
+import java.nio.ByteBuffer;
+
+// coin explosion particles as plain arrays, they only collide with the collision grid and only look for the two players
+public class CoinParticles {
+    private static final Logger<CoinParticles> logger = new Logger<>(CoinParticles.class);
+
+    private static final float SIZE = 1f;
+
+    // same tuning as the gravity entities they replace
+    private static final float GRAVITY = -1.8f;
+    private static final float JUMP_FORCE = 0.8f;
+    private static final float MOVEMENT_SPEED_INCREASE = 10f;
+    private static final float MAX_SPEED = 0.25f;
+    private static final float FRICTION = 5f;
+    private static final int JUMP_AFTER_GROUND_LEFT_MAX_TICKS = 15;
+    private static final int NEVER_GROUNDED = Integer.MIN_VALUE / 2;
+
+    private static final byte GROUNDED = 1, JUMPING = 2, WANTS_TO_JUMP = 4, INVERTED = 8, GROUND_TOUCHED = 16, FACING_RIGHT = 32;
+    private static final byte ANIMATION_NONE = 0, ANIMATION_IDLE = 1, ANIMATION_FALL = 2;
+
+    // bytes per particle in writeState
+    private static final int STATE_BYTES = 9 * 4 + 4 + 2;
+
+    private final Level level;
+
+    private final Animation<TextureAtlas.AtlasRegion> idle, fall;
+
+    @Getter
+    private int count;
+
+    private float[] x, y, velocityX, velocityY;
+    private float[] wantsToMoveLeft, wantsToMoveRight, jumpForce, invincibility, animationTime;
+    private int[] lastGroundedTick;
+    private byte[] flags, animation;
+
+    public CoinParticles(Level level, int capacity) {
+        this.level = level;
+
+        var atlas = level.getContext().getAssets().getGame().getParticlesAtlas();
+        idle = new Animation<>(0.2f, atlas.getCoins_idle(), Animation.PlayMode.LOOP);
+        fall = new Animation<>(0.05f, atlas.getCoins_explode(), Animation.PlayMode.NORMAL);
+
+        allocate(Math.max(1, capacity));
+    }
+
+    public void spawn(float spawnX, float spawnY, boolean invertedWorld) {
+        if (count == x.length)
+            allocate(count * 2);
+
+        var i = count++;
+        x[i] = spawnX;
+        y[i] = spawnY;
+        velocityX[i] = velocityY[i] = 0;
+        wantsToMoveLeft[i] = wantsToMoveRight[i] = 0;
+        jumpForce[i] = JUMP_FORCE;
+        invincibility[i] = 0.1f;
+        animationTime[i] = 0;
+        lastGroundedTick[i] = NEVER_GROUNDED;
+        flags[i] = (byte) (FACING_RIGHT | (invertedWorld ? INVERTED : 0));
+        animation[i] = ANIMATION_NONE;
+
+        var random = level.getRandom();
+        if (random.nextBoolean())
+            wantsToMoveRight[i] = random.nextFloat() * 0.5f + 0.3f;
+        else
+            wantsToMoveLeft[i] = random.nextFloat() * 0.5f + 0.3f;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    public void update(float delta) {
+        var grid = level.getMap().getCollisionGrid();
+        var boundaries = level.getMap().getBoundaries();
+        var tick = level.getTick();
+
+        for (int i = 0; i < count; i++) {
+            var f = flags[i];
+            var inverted = (f & INVERTED) != 0;
+            var direction = inverted ? -1 : 1;
+
+            // gravity and the jump
+            f = applyGravity(i, f, inverted, direction, delta);
+            if ((f & WANTS_TO_JUMP) != 0 && (f & JUMPING) == 0 && ((f & GROUNDED) != 0 || tick - lastGroundedTick[i] < JUMP_AFTER_GROUND_LEFT_MAX_TICKS)) {
+                if (inverted ? velocityY[i] > 0 : velocityY[i] < 0)
+                    velocityY[i] = 0;
+
+                velocityY[i] += jumpForce[i] * direction;
+                f |= JUMPING;
+            }
+
+            animationTime[i] += delta;
+
+            var input = wantsToMoveLeft[i] > 0.2f ? -MOVEMENT_SPEED_INCREASE : wantsToMoveRight[i] > 0.2f ? MOVEMENT_SPEED_INCREASE : 0;
+
+            if (grid.overlaps(x[i], y[i] - 0.1f * direction, SIZE, SIZE)) {
+                f |= GROUNDED;
+                lastGroundedTick[i] = tick;
+            } else {
+                f &= ~GROUNDED;
+            }
+
+            if ((f & FACING_RIGHT) != 0 ? input < 0 : input > 0)
+                f ^= FACING_RIGHT;
+
+            if (input > 0)
+                velocityX[i] = MathUtils.approach(velocityX[i], MAX_SPEED * wantsToMoveRight[i], input * delta);
+            else if (input < 0)
+                velocityX[i] = MathUtils.approach(velocityX[i], -MAX_SPEED * wantsToMoveLeft[i], input * delta);
+            else
+                velocityX[i] = MathUtils.approach(velocityX[i], 0, FRICTION * delta);
+
+            f = applyGravity(i, f, inverted, direction, delta);
+
+            // move against the static ground
+            var moveX = grid.moveX(x[i], y[i], SIZE, SIZE, velocityX[i]);
+            var moveY = grid.moveY(x[i] + moveX, y[i], SIZE, SIZE, velocityY[i]);
+            var hitWall = moveX != velocityX[i];
+            var hitFloorOrCeiling = moveY != velocityY[i];
+            var floorNormal = velocityY[i] > 0 ? -1 : 1;
+
+            x[i] += moveX;
+            y[i] += moveY;
+
+            if (hitWall)
+                velocityX[i] = 0;
+            if (hitFloorOrCeiling) {
+                velocityY[i] = 0;
+                if (floorNormal == direction)
+                    f &= ~JUMPING;
+            }
+            if ((hitWall || hitFloorOrCeiling) && invincibility[i] <= 0)
+                f |= GROUND_TOUCHED;
+
+            // a missing jump and run animation keeps the current one, like setAnimation(null) does on entities
+            if ((f & JUMPING) == 0) {
+                if ((f & GROUNDED) == 0)
+                    setAnimation(i, ANIMATION_FALL);
+                else if (velocityX[i] == 0)
+                    setAnimation(i, ANIMATION_IDLE);
+            }
+
+            // fell out of the map
+            if (x[i] + SIZE < boundaries.x || x[i] > boundaries.x + boundaries.width || y[i] + SIZE < boundaries.y || y[i] > boundaries.y + boundaries.height) {
+                remove(i--);
+                continue;
+            }
+
+            if ((f & GROUND_TOUCHED) != 0 && touchesPlayer(i)) {
+                level.getAudio().play(level.getContext().getAssets().getSound().getCoin1(), level.getContext().getAssets().getSound().getCoin2());
+                level.addCoin();
+
+                remove(i--);
+                continue;
+            }
+
+            invincibility[i] -= 0.2f * delta;
+
+            jumpForce[i] -= 0.6f * delta;
+            if (jumpForce[i] <= 0) {
+                jumpForce[i] = 0;
+                f &= ~WANTS_TO_JUMP;
+                wantsToMoveLeft[i] = wantsToMoveRight[i] = 0;
+            } else {
+                wantsToMoveLeft[i] -= delta;
+                wantsToMoveRight[i] -= delta;
+                f |= WANTS_TO_JUMP;
+            }
+
+            flags[i] = f;
+        }
+    }
+
+    private byte applyGravity(int i, byte f, boolean inverted, int direction, float delta) {
+        velocityY[i] += GRAVITY * direction * delta;
+
+        if (inverted ? velocityY[i] > 0 : velocityY[i] < 0)
+            f &= ~JUMPING;
+
+        return f;
+    }
+
+    private void setAnimation(int i, byte newAnimation) {
+        if (animation[i] == newAnimation)
+            return;
+
+        animation[i] = newAnimation;
+        animationTime[i] = 0;
+    }
+
+    private boolean touchesPlayer(int i) {
+        for (Player player : level.getPlayers().getPlayers()) {
+            var position = player.getPosition();
+            if (position.x < x[i] + SIZE && x[i] < position.x + player.getWidth() && position.y < y[i] + SIZE && y[i] < position.y + player.getHeight())
+                return true;
+        }
+
+        return false;
+    }
+
+    // swaps the last particle into the freed slot
+    private void remove(int i) {
+        var last = --count;
+
+        x[i] = x[last];
+        y[i] = y[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        wantsToMoveLeft[i] = wantsToMoveLeft[last];
+        wantsToMoveRight[i] = wantsToMoveRight[last];
+        jumpForce[i] = jumpForce[last];
+        invincibility[i] = invincibility[last];
+        animationTime[i] = animationTime[last];
+        lastGroundedTick[i] = lastGroundedTick[last];
+        flags[i] = flags[last];
+        animation[i] = animation[last];
+    }
+
+    public void render(SpriteBatch batch) {
+        var tileWidth = level.getMap().getTileWidth();
+        var tileHeight = level.getMap().getTileHeight();
+
+        for (int i = 0; i < count; i++) {
+            var current = animation[i] == ANIMATION_IDLE ? idle : animation[i] == ANIMATION_FALL ? fall : null;
+            if (current == null)
+                continue;
+
+            var frame = current.getKeyFrame(animationTime[i]);
+            var facingRight = (flags[i] & FACING_RIGHT) != 0;
+            var inverted = (flags[i] & INVERTED) != 0;
+
+            var drawX = facingRight ? x[i] : x[i] + SIZE;
+            var drawY = inverted ? y[i] + SIZE : y[i];
+
+            var drawWidth = facingRight ? frame.getRegionWidth() / tileWidth : -frame.getRegionWidth() / tileWidth;
+            var drawHeight = inverted ? -frame.getRegionHeight() / tileHeight : frame.getRegionHeight() / tileHeight;
+
+            batch.draw(frame, drawX, drawY, drawWidth * 1.5f, drawHeight * 1.5f);
+        }
+    }
+
+    public void debugRender(ShapeDrawer shapes) {
+        for (int i = 0; i < count; i++)
+            shapes.rectangle(x[i], y[i], SIZE, SIZE);
+    }
+
+    public int getStateBytes() {
+        return 4 + count * STATE_BYTES;
+    }
+
+    public void writeState(ByteBuffer buffer) {
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putFloat(x[i]);
+            buffer.putFloat(y[i]);
+            buffer.putFloat(velocityX[i]);
+            buffer.putFloat(velocityY[i]);
+            buffer.putFloat(wantsToMoveLeft[i]);
+            buffer.putFloat(wantsToMoveRight[i]);
+            buffer.putFloat(jumpForce[i]);
+            buffer.putFloat(invincibility[i]);
+            buffer.putFloat(animationTime[i]);
+            buffer.putInt(lastGroundedTick[i]);
+            buffer.put(flags[i]);
+            buffer.put(animation[i]);
+        }
+    }
+
+    public void readState(ByteBuffer buffer) {
+        count = 0;
+
+        var restored = buffer.getInt();
+        if (restored > x.length)
+            allocate(restored);
+
+        for (int i = 0; i < restored; i++) {
+            x[i] = buffer.getFloat();
+            y[i] = buffer.getFloat();
+            velocityX[i] = buffer.getFloat();
+            velocityY[i] = buffer.getFloat();
+            wantsToMoveLeft[i] = buffer.getFloat();
+            wantsToMoveRight[i] = buffer.getFloat();
+            jumpForce[i] = buffer.getFloat();
+            invincibility[i] = buffer.getFloat();
+            animationTime[i] = buffer.getFloat();
+            lastGroundedTick[i] = buffer.getInt();
+            flags[i] = buffer.get();
+            animation[i] = buffer.get();
+        }
+
+        count = restored;
+    }
+
+    private void allocate(int capacity) {
+        x = copy(x, capacity);
+        y = copy(y, capacity);
+        velocityX = copy(velocityX, capacity);
+        velocityY = copy(velocityY, capacity);
+        wantsToMoveLeft = copy(wantsToMoveLeft, capacity);
+        wantsToMoveRight = copy(wantsToMoveRight, capacity);
+        jumpForce = copy(jumpForce, capacity);
+        invincibility = copy(invincibility, capacity);
+        animationTime = copy(animationTime, capacity);
+
+        var ticks = new int[capacity];
+        var newFlags = new byte[capacity];
+        var animations = new byte[capacity];
+        if (count > 0) {
+            System.arraycopy(lastGroundedTick, 0, ticks, 0, count);
+            System.arraycopy(flags, 0, newFlags, 0, count);
+            System.arraycopy(animation, 0, animations, 0, count);
+        }
+        lastGroundedTick = ticks;
+        flags = newFlags;
+        animation = animations;
+
+        logger.logDebug("Coin particle capacity " + capacity);
+    }
+
+    private float[] copy(float[] array, int capacity) {
+        var copy = new float[capacity];
+        if (array != null)
+            System.arraycopy(array, 0, copy, 0, count);
+
+        return copy;
+    }
+}
@@ -2,23 +2,21 @@ package dev.lyze.parallelworlds.screens.game.entities.players;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.dongbat.jbump.Collision;
 import com.dongbat.jbump.World;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.screens.game.Level;
 import dev.lyze.parallelworlds.screens.game.entities.Entity;
+import dev.lyze.parallelworlds.screens.game.entities.EntityCategory;
 import dev.lyze.parallelworlds.screens.game.entities.GravityEntity;
 import dev.lyze.parallelworlds.screens.game.entities.enums.Direction;
 import dev.lyze.parallelworlds.screens.game.entities.enums.PlayerColor;
 import dev.lyze.parallelworlds.screens.game.entities.filters.PlayerCollisionFilter;
-import dev.lyze.parallelworlds.screens.game.entities.impl.ExitTile;
-import dev.lyze.parallelworlds.screens.game.entities.impl.PortalDirectionTile;
 import dev.lyze.parallelworlds.screens.game.gamepads.VirtualGamepadGroup;
-import dev.lyze.parallelworlds.statics.Statics;
 import lombok.Getter;
+import lombok.Setter;
 import space.earlygrey.shapedrawer.ShapeDrawer;
 
-import java.util.Random;
+import java.nio.ByteBuffer;
 
 public abstract class Player extends GravityEntity {
     private static final Logger<Player> logger = new Logger<>(Player.class);
@@ -26,11 +24,11 @@ public abstract class Player extends GravityEntity {
     @Getter
     private final PlayerColor color;
 
+    private final boolean initialInvertedWorld;
+    @Setter
     private Direction portalDirection;
     private VirtualGamepadGroup gamepad;
 
-    private Random random = new Random();
-
     public Player(Level level, PlayerColor color, boolean invertedWorld, Animation<TextureAtlas.AtlasRegion> idle, Animation<TextureAtlas.AtlasRegion> run, Animation<TextureAtlas.AtlasRegion> jump, Animation<TextureAtlas.AtlasRegion> fall, Animation<TextureAtlas.AtlasRegion> death) {
         super(0, 0, 2, 1.25f, level, PlayerCollisionFilter.instance);
 
@@ -41,19 +39,57 @@ public abstract class Player extends GravityEntity {
         setDeath(death);
 
         setInvertedWorld(invertedWorld);
+        initialInvertedWorld = invertedWorld;
         this.color = color;
 
+        setCategory(EntityCategory.PLAYER);
+        setColorMask(color.getMask());
+
         setAnimationXOffset(-0.6f);
     }
 
     @Override
-    public void update(World<Entity> world, float delta) {
+    public void reset() {
+        super.reset();
+
+        portalDirection = null;
+        setInvertedWorld(initialInvertedWorld);
+    }
+
+    @Override
+    protected boolean canDespawn() {
+        return false;
+    }
+
+    @Override
+    public void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+
+        buffer.put((byte) (portalDirection == null ? -1 : portalDirection.ordinal()));
+    }
+
+    @Override
+    public void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+
+        var direction = buffer.get();
+        portalDirection = direction < 0 ? null : Direction.values()[direction];
+    }
+
+    @Override
+    public void think(float delta) {
         checkInput();
 
+        super.think(delta);
+    }
+
+    @Override
+    public void update(World<Entity> world, float delta) {
         var oldPortalDirection = portalDirection;
         portalDirection = null;
 
         super.update(world, delta);
+        level.getSensors().update(this);
 
         if (oldPortalDirection != null && portalDirection == null) {
             // left all direction blocks
@@ -73,25 +109,7 @@ public abstract class Player extends GravityEntity {
     protected void jump() {
         super.jump();
 
-        Statics.assets.getSound().playBigPitch(Statics.assets.getSound().getJump1());
-    }
-
-    @Override
-    protected void onCollision(Collision collision) {
-        super.onCollision(collision);
-
-        var userData = collision.other.userData;
-
-        if (userData instanceof ExitTile) {
-            Statics.assets.getSound().getLongSlideUp().play(0.5f);
-            level.loadNextLevel();
-            return;
-        }
-
-        if (userData instanceof PortalDirectionTile) {
-            var portalDirection = (PortalDirectionTile) userData;
-            this.portalDirection = portalDirection.getDirection();
-        }
+        level.getAudio().playBigPitch(level.getContext().getAssets().getSound().getJump1());
     }
 
     @Override
@@ -17,6 +17,8 @@ public class VirtualGamepadGroup {
     protected boolean jumpJustPressed;
 
     public VirtualGamepadGroup(Player player, int playerNumber, Stage mobileUi) {
+        this(player);
+
         gamepads.add(new KeyboardGamepad(player, playerNumber));
 
         gamepads.add(new ControllerGamepad(player, playerNumber));
@@ -24,10 +26,16 @@ public class VirtualGamepadGroup {
         var touchpadGamepad = new TouchpadGamepad(player, playerNumber);
         touchpadGamepad.setup(mobileUi);
         gamepads.add(touchpadGamepad);
+    }
 
+    public VirtualGamepadGroup(Player player) {
         player.setGamepadGroup(this);
     }
 
+    public void add(VirtualGamepad gamepad) {
+        gamepads.add(gamepad);
+    }
+
     public void update(float delta) {
         leftPressed = 0;
         rightPressed = 0;
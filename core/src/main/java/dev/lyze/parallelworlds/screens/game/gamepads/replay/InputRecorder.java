@@ -0,0 +1,167 @@
+package dev.lyze.parallelworlds.screens.game.gamepads.replay;
+
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.NumberUtils;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.gamepads.VirtualGamepadGroup;
+import lombok.Getter;
+
+import java.util.ArrayList;
+
+public class InputRecorder {
+    private static final Logger<InputRecorder> logger = new Logger<>(InputRecorder.class);
+
+    public static final int KEY_FRAME_INTERVAL = 100;
+
+    private final String mapPath;
+    private final long seed;
+    private final int playerCount;
+
+    private final ByteArray data = new ByteArray();
+    private final IntArray keyFrameTicks = new IntArray(), keyFrameOffsets = new IntArray();
+    // start tick and offset of every run, used to cut the recording after a rewind
+    private final IntArray runTicks = new IntArray(), runOffsets = new IntArray();
+
+    private final float[] left, right;
+    private final boolean[] jump;
+    private int runLength;
+
+    @Getter
+    private int tick;
+
+    public InputRecorder(String mapPath, long seed, int playerCount) {
+        this.mapPath = mapPath;
+        this.seed = seed;
+        this.playerCount = playerCount;
+
+        left = new float[playerCount];
+        right = new float[playerCount];
+        jump = new boolean[playerCount];
+    }
+
+    // call once per tick after the groups were updated
+    public void record(ArrayList<VirtualGamepadGroup> groups) {
+        if (tick % KEY_FRAME_INTERVAL == 0) {
+            flushRun();
+            keyFrameTicks.add(tick);
+            keyFrameOffsets.add(data.size);
+        }
+
+        if (runLength == 0 || !matches(groups)) {
+            flushRun();
+
+            for (int i = 0; i < playerCount; i++) {
+                var group = groups.get(i);
+                left[i] = group.getLeftPressed();
+                right[i] = group.getRightPressed();
+                jump[i] = group.isJumpJustPressed();
+            }
+        }
+
+        runLength++;
+        tick++;
+    }
+
+    private boolean matches(ArrayList<VirtualGamepadGroup> groups) {
+        for (int i = 0; i < playerCount; i++) {
+            var group = groups.get(i);
+            if (group.getLeftPressed() != left[i] || group.getRightPressed() != right[i] || group.isJumpJustPressed() != jump[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private void flushRun() {
+        if (runLength == 0)
+            return;
+
+        runTicks.add(tick - runLength);
+        runOffsets.add(data.size);
+
+        var value = runLength;
+        while ((value & ~0x7F) != 0) {
+            data.add((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        data.add((byte) value);
+
+        for (int i = 0; i < playerCount; i++) {
+            writeFloat(left[i]);
+            writeFloat(right[i]);
+            data.add((byte) (jump[i] ? 1 : 0));
+        }
+
+        runLength = 0;
+    }
+
+    private void writeFloat(float value) {
+        var bits = NumberUtils.floatToRawIntBits(value);
+        data.add((byte) (bits >>> 24));
+        data.add((byte) (bits >>> 16));
+        data.add((byte) (bits >>> 8));
+        data.add((byte) bits);
+    }
+
+    // drops everything recorded from the given tick on, the next record continues from there
+    public void truncate(int tick) {
+        if (tick >= this.tick)
+            return;
+
+        flushRun();
+
+        var run = runTicks.size - 1;
+        while (run >= 0 && runTicks.get(run) >= tick)
+            run--;
+
+        if (run < 0) {
+            clear();
+            return;
+        }
+
+        var runTick = runTicks.get(run);
+        var offset = runOffsets.get(run);
+
+        var valuesOffset = offset;
+        while ((data.get(valuesOffset) & 0x80) != 0)
+            valuesOffset++;
+        valuesOffset++;
+
+        var bytes = data.items;
+        for (int i = 0; i < playerCount; i++) {
+            var base = valuesOffset + i * InputReplay.PLAYER_BYTES;
+            left[i] = InputReplay.readFloat(bytes, base);
+            right[i] = InputReplay.readFloat(bytes, base + 4);
+            jump[i] = bytes[base + 8] != 0;
+        }
+
+        data.size = offset;
+        runTicks.size = run;
+        runOffsets.size = run;
+        while (keyFrameTicks.size > 0 && keyFrameTicks.peek() > runTick) {
+            keyFrameTicks.pop();
+            keyFrameOffsets.pop();
+        }
+
+        runLength = tick - runTick;
+        this.tick = tick;
+    }
+
+    public void clear() {
+        data.clear();
+        keyFrameTicks.clear();
+        keyFrameOffsets.clear();
+        runTicks.clear();
+        runOffsets.clear();
+
+        runLength = 0;
+        tick = 0;
+    }
+
+    public InputReplay finish() {
+        flushRun();
+
+        return new InputReplay(mapPath, seed, playerCount, tick, data.toArray(), keyFrameTicks.toArray(), keyFrameOffsets.toArray());
+    }
+}
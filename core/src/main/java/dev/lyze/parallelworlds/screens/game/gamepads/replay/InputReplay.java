@@ -0,0 +1,40 @@
+package dev.lyze.parallelworlds.screens.game.gamepads.replay;
+
+import com.badlogic.gdx.utils.NumberUtils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// per tick gamepad input of every player, stored as runs of identical ticks: [varint ticks][per player: float left, float right, byte jump]
+@Data
+@AllArgsConstructor
+public class InputReplay {
+    static final int PLAYER_BYTES = 9;
+
+    private String mapPath;
+    private long seed;
+    private int playerCount;
+    private int tickCount;
+    private byte[] data;
+
+    // a run starts at every key frame, playback can jump there without decoding the runs before it
+    private int[] keyFrameTicks;
+    private int[] keyFrameOffsets;
+
+    public int findKeyFrame(int tick) {
+        var low = 0;
+        var high = keyFrameTicks.length - 1;
+        while (low < high) {
+            var middle = (low + high + 1) >>> 1;
+            if (keyFrameTicks[middle] <= tick)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+
+        return low;
+    }
+
+    static float readFloat(byte[] data, int offset) {
+        return NumberUtils.intBitsToFloat((data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16 | (data[offset + 2] & 0xFF) << 8 | data[offset + 3] & 0xFF);
+    }
+}
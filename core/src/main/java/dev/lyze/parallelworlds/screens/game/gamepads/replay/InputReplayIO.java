@@ -0,0 +1,63 @@
+package dev.lyze.parallelworlds.screens.game.gamepads.replay;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import dev.lyze.parallelworlds.logger.Logger;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class InputReplayIO {
+    private static final Logger<InputReplayIO> logger = new Logger<>(InputReplayIO.class);
+
+    public static final String EXTENSION = ".pwreplay";
+
+    private static final int MAGIC = 0x50575250;
+    private static final int VERSION = 1;
+
+    public static void write(InputReplay replay, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeUTF(replay.getMapPath());
+        out.writeLong(replay.getSeed());
+        out.writeInt(replay.getPlayerCount());
+        out.writeInt(replay.getTickCount());
+
+        out.writeInt(replay.getKeyFrameTicks().length);
+        for (int i = 0; i < replay.getKeyFrameTicks().length; i++) {
+            out.writeInt(replay.getKeyFrameTicks()[i]);
+            out.writeInt(replay.getKeyFrameOffsets()[i]);
+        }
+
+        out.writeInt(replay.getData().length);
+        out.write(replay.getData());
+    }
+
+    public static InputReplay read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new GdxRuntimeException("Not an input replay");
+
+        var version = in.readInt();
+        if (version != VERSION)
+            throw new GdxRuntimeException("Unsupported input replay version " + version);
+
+        var mapPath = in.readUTF();
+        var seed = in.readLong();
+        var playerCount = in.readInt();
+        var tickCount = in.readInt();
+
+        var keyFrameCount = in.readInt();
+        var keyFrameTicks = new int[keyFrameCount];
+        var keyFrameOffsets = new int[keyFrameCount];
+        for (int i = 0; i < keyFrameCount; i++) {
+            keyFrameTicks[i] = in.readInt();
+            keyFrameOffsets[i] = in.readInt();
+        }
+
+        var data = new byte[in.readInt()];
+        in.readFully(data);
+
+        return new InputReplay(mapPath, seed, playerCount, tickCount, data, keyFrameTicks, keyFrameOffsets);
+    }
+}
@@ -0,0 +1,98 @@
+package dev.lyze.parallelworlds.screens.game.gamepads.replay;
+
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import dev.lyze.parallelworlds.screens.game.gamepads.VirtualGamepad;
+
+// plays back one player of a recorded replay, one tick per update
+public class ReplayGamepad extends VirtualGamepad {
+    private final InputReplay replay;
+
+    private int offset, tick, runRemaining;
+    private float runLeft, runRight;
+    private boolean runJump;
+
+    public ReplayGamepad(Player player, int playerNumber, InputReplay replay) {
+        super(player, playerNumber);
+
+        this.replay = replay;
+    }
+
+    @Override
+    public void update(float delta) {
+        if (isFinished()) {
+            leftPressed = rightPressed = 0;
+            jumpJustPressed = false;
+            return;
+        }
+
+        if (runRemaining == 0)
+            readRun();
+
+        runRemaining--;
+        tick++;
+
+        leftPressed = runLeft;
+        rightPressed = runRight;
+        jumpJustPressed = runJump;
+    }
+
+    // positions the playback so the next update returns the input of the given tick
+    public void seek(int target) {
+        if (replay.getKeyFrameTicks().length == 0)
+            return;
+
+        var keyFrame = replay.findKeyFrame(target);
+        offset = replay.getKeyFrameOffsets()[keyFrame];
+        tick = replay.getKeyFrameTicks()[keyFrame];
+        runRemaining = 0;
+
+        while (tick < target && !isFinished()) {
+            if (runRemaining == 0)
+                readRun();
+
+            var skipped = Math.min(runRemaining, target - tick);
+            runRemaining -= skipped;
+            tick += skipped;
+        }
+    }
+
+    public boolean isFinished() {
+        return tick >= replay.getTickCount();
+    }
+
+    private void readRun() {
+        var data = replay.getData();
+
+        var length = 0;
+        var shift = 0;
+        byte b;
+        do {
+            b = data[offset++];
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        var base = offset + playerNumber * InputReplay.PLAYER_BYTES;
+        runLeft = InputReplay.readFloat(data, base);
+        runRight = InputReplay.readFloat(data, base + 4);
+        runJump = data[base + 8] != 0;
+
+        offset += replay.getPlayerCount() * InputReplay.PLAYER_BYTES;
+        runRemaining = length;
+    }
+
+    @Override
+    public void reset(float delta) {
+
+    }
+
+    @Override
+    public void vibrate(int durationInMs, float strength) {
+
+    }
+
+    @Override
+    public void dispose() {
+
+    }
+}
@@ -0,0 +1,92 @@
+package dev.lyze.parallelworlds.screens.game.map;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import lombok.Getter;
+
+public class ColliderMerger {
+    private final int width, height;
+    private final int tileWidth, tileHeight;
+
+    private final Rectangle[] colliders;
+    private final boolean[] consumed;
+
+    @Getter
+    private int cellCount;
+
+    public ColliderMerger(int width, int height, int tileWidth, int tileHeight) {
+        this.width = width;
+        this.height = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+
+        colliders = new Rectangle[width * height];
+        consumed = new boolean[width * height];
+    }
+
+    public void add(int x, int y, Rectangle collider) {
+        if (colliders[y * width + x] == null)
+            cellCount++;
+
+        colliders[y * width + x] = collider;
+    }
+
+    // greedy: grow each box as far right as possible, then grow the whole run upwards row by row
+    public Array<Rectangle> merge() {
+        var boxes = new Array<Rectangle>();
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                var collider = colliders[y * width + x];
+                if (collider == null || consumed[y * width + x])
+                    continue;
+
+                var runWidth = 1;
+                if (spansFullWidth(collider)) {
+                    while (x + runWidth < width && canConsume(x + runWidth, y, collider))
+                        runWidth++;
+                }
+
+                var runHeight = 1;
+                if (spansFullHeight(collider)) {
+                    while (y + runHeight < height && canConsumeRow(x, y + runHeight, runWidth, collider))
+                        runHeight++;
+                }
+
+                for (int cy = y; cy < y + runHeight; cy++)
+                    for (int cx = x; cx < x + runWidth; cx++)
+                        consumed[cy * width + cx] = true;
+
+                boxes.add(new Rectangle(
+                        x + collider.x / tileWidth,
+                        y + collider.y / tileHeight,
+                        (runWidth - 1) + collider.width / tileWidth,
+                        (runHeight - 1) + collider.height / tileHeight));
+            }
+        }
+
+        return boxes;
+    }
+
+    private boolean canConsumeRow(int x, int y, int runWidth, Rectangle collider) {
+        for (int cx = x; cx < x + runWidth; cx++) {
+            if (!canConsume(cx, y, collider))
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean canConsume(int x, int y, Rectangle collider) {
+        var other = colliders[y * width + x];
+        return other != null && !consumed[y * width + x] && other.equals(collider);
+    }
+
+    private boolean spansFullWidth(Rectangle collider) {
+        return collider.x == 0 && collider.width == tileWidth;
+    }
+
+    private boolean spansFullHeight(Rectangle collider) {
+        return collider.y == 0 && collider.height == tileHeight;
+    }
+}
@@ -17,6 +17,11 @@ public class ExitSpawner extends MapSpawner<ExitSpawnerMapProperties> {
         super(level, map, ExitSpawnerMapProperties.class);
     }
 
+    @Override
+    public boolean isStatic() {
+        return true;
+    }
+
     @Override
     public void spawnInternal(int x, int y, ExitSpawnerMapProperties data, HashMap<Point, MapProperties> spawnedEntities) {
         logger.logInfo("Spawning exit at " + x + "/" + y + " with level " + map.getNextLevel());
@@ -1,15 +1,18 @@
 package dev.lyze.parallelworlds.screens.game.map;
 
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.reflect.ClassReflection;
 import com.badlogic.gdx.utils.reflect.Field;
 import com.badlogic.gdx.utils.reflect.ReflectionException;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.screens.game.Level;
 import dev.lyze.parallelworlds.screens.game.Map;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapSpawn;
 import dev.lyze.parallelworlds.screens.game.map.properties.MapProperties;
 import dev.lyze.parallelworlds.utils.Point;
+import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,9 +25,11 @@ public class MapEntitiesCreation {
 
     private final ArrayList<MapSpawner<?>> mapSpawners = new ArrayList<>();
 
-    private final HashMap<Point, MapSpawner<?>> entitiesCoordinates = new HashMap<>();
     private final HashMap<Point, MapProperties> spawnedEntities = new HashMap<>();
 
+    @Getter
+    private Array<MapSpawn> spawns;
+
     public MapEntitiesCreation(Level level, Map map) {
         this.level = level;
         this.map = map;
@@ -45,6 +50,36 @@ public class MapEntitiesCreation {
         }
         entitiesLayer.setVisible(false);
 
+        var descriptor = map.getMap().getProperties().get(MapDescriptor.PROPERTY, MapDescriptor.class);
+        spawns = descriptor != null && descriptor.isCompiled() ? descriptor.getSpawns() : collectSpawns(entitiesLayer);
+
+        spawnAll(false);
+    }
+
+    public void respawn() {
+        spawnAll(true);
+    }
+
+    private void spawnAll(boolean dynamicOnly) {
+        for (MapSpawn mapSpawn : spawns) {
+            var spawner = findSpawner(mapSpawn.getType());
+            if (spawner == null) {
+                logger.logError("Couldn't find appropriate spawner " + mapSpawn.getType() + " for properties of cell " + mapSpawn.getX() + "/" + mapSpawn.getY());
+                throw new NullPointerException();
+            }
+
+            if (dynamicOnly && spawner.isStatic())
+                continue;
+
+            var spawnedProperties = spawn(mapSpawn.getX(), mapSpawn.getY(), spawner, mapSpawn.getProperties());
+            spawnedEntities.put(new Point(mapSpawn.getX(), mapSpawn.getY()), spawnedProperties);
+        }
+    }
+
+    // spawn order: by step, cells of the same step in map iteration order
+    private Array<MapSpawn> collectSpawns(TiledMapTileLayer entitiesLayer) {
+        var entitiesCoordinates = new HashMap<Point, String>();
+
         for (int y = 0; y < entitiesLayer.getHeight(); y++) {
             for (int x = 0; x < entitiesLayer.getWidth(); x++) {
                 var cell = entitiesLayer.getCell(x, y);
@@ -57,34 +92,37 @@ public class MapEntitiesCreation {
                 if (type == null)
                     continue;
 
-                var spawner = mapSpawners.stream().filter(t -> t.getClass().getSimpleName().equals(type)).findFirst().orElse(null);
-                if (spawner == null) {
+                if (findSpawner(type) == null) {
                     logger.logError("Couldn't find appropriate spawner " + type + " for properties of cell " + x + "/" + y);
                     throw new NullPointerException();
                 }
 
-                entitiesCoordinates.put(new Point(x, y), spawner);
+                entitiesCoordinates.put(new Point(x, y), type);
             }
         }
 
-        for (int cnt = 0; spawnedEntities.size() < entitiesCoordinates.size(); cnt++) {
+        var collected = new Array<MapSpawn>(entitiesCoordinates.size());
+        for (int cnt = 0; collected.size < entitiesCoordinates.size(); cnt++) {
             for (Point coord : entitiesCoordinates.keySet()) {
-                var cell = entitiesLayer.getCell(coord.getX(), coord.getY());
-                if (cell.getTile().getProperties().get("step", 0, Integer.class) == cnt) {
-                    var spawnedProperties = spawn(coord.getX(), coord.getY(), entitiesCoordinates.get(coord), cell);
-                    spawnedEntities.put(coord, spawnedProperties);
-                }
+                var properties = entitiesLayer.getCell(coord.getX(), coord.getY()).getTile().getProperties();
+                var step = properties.get("step", 0, Integer.class);
+                if (step == cnt)
+                    collected.add(new MapSpawn(coord.getX(), coord.getY(), entitiesCoordinates.get(coord), step, properties));
             }
         }
+
+        return collected;
     }
 
-    public MapProperties spawn(int x, int y, MapSpawner<?> spawner, TiledMapTileLayer.Cell cell) {
-        var tile = cell.getTile();
+    private MapSpawner<?> findSpawner(String type) {
+        return mapSpawners.stream().filter(t -> t.getClass().getSimpleName().equals(type)).findFirst().orElse(null);
+    }
 
+    public MapProperties spawn(int x, int y, MapSpawner<?> spawner, com.badlogic.gdx.maps.MapProperties properties) {
         try {
             var instance = ClassReflection.newInstance(spawner.getPropertiesClass());
             for (Field field : ClassReflection.getDeclaredFields(spawner.getPropertiesClass())) {
-                initializeMapProperties(tile, instance, field);
+                initializeMapProperties(properties, instance, field);
             }
 
             spawner.spawn(x, y, instance, spawnedEntities);
@@ -96,10 +134,10 @@ public class MapEntitiesCreation {
         }
     }
 
-    private void initializeMapProperties(TiledMapTile tile, MapProperties instance, Field field) throws ReflectionException {
+    private void initializeMapProperties(com.badlogic.gdx.maps.MapProperties properties, MapProperties instance, Field field) throws ReflectionException {
         field.setAccessible(true);
 
-        var value = tile.getProperties().get(field.getName());
+        var value = properties.get(field.getName());
         if (field.getType().isEnum()) {
             if (value.toString().equals("null"))
                 value = null;
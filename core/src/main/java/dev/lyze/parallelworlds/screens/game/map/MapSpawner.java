@@ -21,6 +21,11 @@ public abstract class MapSpawner<TProperties extends MapProperties> {
         this.propertiesClass = propertiesClass;
     }
 
+    // static spawns stay in the world when the level restarts in place
+    public boolean isStatic() {
+        return false;
+    }
+
     public void spawn(int x, int y, MapProperties data, HashMap<Point, MapProperties> spawnedEntities) {
         spawnInternal(x, y, (TProperties) data, spawnedEntities);
     }
@@ -23,6 +23,6 @@ public class PlayerSpawner extends MapSpawner<PlayerSpawnerMapProperties> {
 
         Player player = level.getPlayers().getPlayer(properties.getPlayer());
         player.getPosition().set(x, y);
-        level.getWorld().update(player.getItem(), x, y);
+        level.place(player);
     }
 }
@@ -17,6 +17,11 @@ public class PortalDirectionSpawner extends MapSpawner<PortalDirectionMapPropert
         super(level, map, PortalDirectionMapProperties.class);
     }
 
+    @Override
+    public boolean isStatic() {
+        return true;
+    }
+
     @Override
     public void spawnInternal(int x, int y, PortalDirectionMapProperties data, HashMap<Point, MapProperties> spawnedEntities) {
         logger.logInfo("Spawning portal direction " + data.getDirection() + " at " + x + "/" + y);
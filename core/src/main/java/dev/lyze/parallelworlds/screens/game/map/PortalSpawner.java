@@ -17,6 +17,11 @@ public class PortalSpawner extends MapSpawner<PortalSpawnerMapProperties> {
         super(level, map, PortalSpawnerMapProperties.class);
     }
 
+    @Override
+    public boolean isStatic() {
+        return true;
+    }
+
     @Override
     public void spawnInternal(int x, int y, PortalSpawnerMapProperties properties, HashMap<Point, MapProperties> spawnedEntities) {
         logger.logInfo("Spawning portal " + properties.getColor() + " at " + x + "/" + y);
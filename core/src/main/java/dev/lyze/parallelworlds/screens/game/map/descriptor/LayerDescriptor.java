@@ -0,0 +1,85 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import lombok.Data;
+
+@Data
+public class LayerDescriptor {
+    public static final int FLIP_HORIZONTALLY = 0x80000000;
+    public static final int FLIP_VERTICALLY = 0x40000000;
+    public static final int ROTATION_SHIFT = 28;
+    public static final int GID_MASK = 0x0FFFFFFF;
+
+    private static final int TMX_FLIP_HORIZONTALLY = 0x80000000;
+    private static final int TMX_FLIP_VERTICALLY = 0x40000000;
+    private static final int TMX_FLIP_DIAGONALLY = 0x20000000;
+    private static final int TMX_GID_MASK = 0x1FFFFFFF;
+
+    private boolean tileLayer;
+
+    private String name;
+    private boolean visible = true;
+    private float opacity = 1f;
+    private float offsetX, offsetY;
+
+    private final MapProperties properties = new MapProperties();
+
+    private int width, height;
+    private int tileWidth, tileHeight;
+    // row major from the bottom row, gid | rotation << 28 | flip bits, 0 = empty
+    private int[] cells;
+
+    private final Array<RectangleMapObject> objects = new Array<>();
+
+    public static int pack(TiledMapTileLayer.Cell cell) {
+        if (cell == null || cell.getTile() == null)
+            return 0;
+
+        var packed = cell.getTile().getId() & GID_MASK;
+        packed |= (cell.getRotation() & 3) << ROTATION_SHIFT;
+        if (cell.getFlipHorizontally())
+            packed |= FLIP_HORIZONTALLY;
+        if (cell.getFlipVertically())
+            packed |= FLIP_VERTICALLY;
+
+        return packed;
+    }
+
+    // same flip to rotation mapping as the TmxMapLoader
+    public static int fromTmx(int tmxGid) {
+        var gid = tmxGid & TMX_GID_MASK;
+        if (gid == 0)
+            return 0;
+
+        var flipHorizontally = (tmxGid & TMX_FLIP_HORIZONTALLY) != 0;
+        var flipVertically = (tmxGid & TMX_FLIP_VERTICALLY) != 0;
+        var rotation = 0;
+
+        if ((tmxGid & TMX_FLIP_DIAGONALLY) != 0) {
+            if (flipHorizontally && flipVertically) {
+                flipVertically = false;
+                rotation = TiledMapTileLayer.Cell.ROTATE_270;
+            } else if (flipHorizontally) {
+                flipHorizontally = false;
+                rotation = TiledMapTileLayer.Cell.ROTATE_270;
+            } else if (flipVertically) {
+                flipVertically = false;
+                rotation = TiledMapTileLayer.Cell.ROTATE_90;
+            } else {
+                flipVertically = true;
+                rotation = TiledMapTileLayer.Cell.ROTATE_270;
+            }
+        }
+
+        var packed = (gid & GID_MASK) | rotation << ROTATION_SHIFT;
+        if (flipHorizontally)
+            packed |= FLIP_HORIZONTALLY;
+        if (flipVertically)
+            packed |= FLIP_VERTICALLY;
+
+        return packed;
+    }
+}
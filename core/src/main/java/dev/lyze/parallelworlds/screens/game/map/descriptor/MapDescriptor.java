@@ -0,0 +1,24 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import lombok.Data;
+
+@Data
+public class MapDescriptor {
+    public static final String PROPERTY = "descriptor";
+
+    private final MapProperties properties = new MapProperties();
+    private final Array<TileSetDescriptor> tileSets = new Array<>();
+    private final Array<LayerDescriptor> layers = new Array<>();
+
+    // precompiled, null when the map wasn't compiled
+    private Array<Rectangle> colliders;
+    private int tileColliderCount;
+    private Array<MapSpawn> spawns;
+
+    public boolean isCompiled() {
+        return colliders != null && spawns != null;
+    }
+}
@@ -0,0 +1,346 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import dev.lyze.parallelworlds.logger.Logger;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+public class MapDescriptorIO {
+    private static final Logger<MapDescriptorIO> logger = new Logger<>(MapDescriptorIO.class);
+
+    private static final int MAGIC = 0x50574D50;
+    private static final int VERSION = 1;
+
+    private static final byte TYPE_STRING = 0, TYPE_INT = 1, TYPE_FLOAT = 2, TYPE_BOOLEAN = 3, TYPE_COLOR = 4;
+
+    public static void write(MapDescriptor descriptor, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        writeProperties(descriptor.getProperties(), out);
+
+        out.writeInt(descriptor.getTileSets().size);
+        for (TileSetDescriptor tileSet : descriptor.getTileSets())
+            writeTileSet(tileSet, out);
+
+        out.writeInt(descriptor.getLayers().size);
+        for (LayerDescriptor layer : descriptor.getLayers())
+            writeLayer(layer, out);
+
+        out.writeBoolean(descriptor.isCompiled());
+        if (!descriptor.isCompiled())
+            return;
+
+        out.writeInt(descriptor.getTileColliderCount());
+        out.writeInt(descriptor.getColliders().size);
+        for (Rectangle collider : descriptor.getColliders())
+            writeRectangle(collider, out);
+
+        out.writeInt(descriptor.getSpawns().size);
+        for (MapSpawn spawn : descriptor.getSpawns()) {
+            out.writeInt(spawn.getX());
+            out.writeInt(spawn.getY());
+            out.writeUTF(spawn.getType());
+            out.writeInt(spawn.getStep());
+            writeProperties(spawn.getProperties(), out);
+        }
+    }
+
+    public static MapDescriptor read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new GdxRuntimeException("Not a compiled map");
+
+        var version = in.readInt();
+        if (version != VERSION)
+            throw new GdxRuntimeException("Unsupported compiled map version " + version);
+
+        var descriptor = new MapDescriptor();
+        readProperties(descriptor.getProperties(), in);
+
+        var tileSets = in.readInt();
+        for (int i = 0; i < tileSets; i++)
+            descriptor.getTileSets().add(readTileSet(in));
+
+        var layers = in.readInt();
+        for (int i = 0; i < layers; i++)
+            descriptor.getLayers().add(readLayer(in));
+
+        if (!in.readBoolean())
+            return descriptor;
+
+        descriptor.setTileColliderCount(in.readInt());
+        var colliderCount = in.readInt();
+        var colliders = new Array<Rectangle>(colliderCount);
+        for (int i = 0; i < colliderCount; i++)
+            colliders.add(readRectangle(in));
+        descriptor.setColliders(colliders);
+
+        var spawnCount = in.readInt();
+        var spawns = new Array<MapSpawn>(spawnCount);
+        for (int i = 0; i < spawnCount; i++) {
+            var x = in.readInt();
+            var y = in.readInt();
+            var type = in.readUTF();
+            var step = in.readInt();
+            var properties = new MapProperties();
+            readProperties(properties, in);
+
+            spawns.add(new MapSpawn(x, y, type, step, properties));
+        }
+        descriptor.setSpawns(spawns);
+
+        return descriptor;
+    }
+
+    private static void writeTileSet(TileSetDescriptor tileSet, DataOutputStream out) throws IOException {
+        out.writeUTF(tileSet.getName());
+        out.writeInt(tileSet.getFirstGid());
+        out.writeInt(tileSet.getTileWidth());
+        out.writeInt(tileSet.getTileHeight());
+        out.writeInt(tileSet.getSpacing());
+        out.writeInt(tileSet.getMargin());
+        out.writeFloat(tileSet.getOffsetX());
+        out.writeFloat(tileSet.getOffsetY());
+        out.writeUTF(tileSet.getImageSource());
+        out.writeInt(tileSet.getImageWidth());
+        out.writeInt(tileSet.getImageHeight());
+        writeProperties(tileSet.getProperties(), out);
+
+        out.writeInt(tileSet.getTiles().size);
+        for (TileDescriptor tile : tileSet.getTiles()) {
+            out.writeInt(tile.getId());
+            writeProperties(tile.getProperties(), out);
+
+            out.writeInt(tile.getColliders().size);
+            for (Rectangle collider : tile.getColliders())
+                writeRectangle(collider, out);
+
+            out.writeBoolean(tile.isAnimated());
+            if (tile.isAnimated()) {
+                out.writeInt(tile.getAnimationFrames().length);
+                for (int i = 0; i < tile.getAnimationFrames().length; i++) {
+                    out.writeInt(tile.getAnimationFrames()[i]);
+                    out.writeInt(tile.getAnimationIntervals()[i]);
+                }
+            }
+        }
+    }
+
+    private static TileSetDescriptor readTileSet(DataInputStream in) throws IOException {
+        var tileSet = new TileSetDescriptor();
+        tileSet.setName(in.readUTF());
+        tileSet.setFirstGid(in.readInt());
+        tileSet.setTileWidth(in.readInt());
+        tileSet.setTileHeight(in.readInt());
+        tileSet.setSpacing(in.readInt());
+        tileSet.setMargin(in.readInt());
+        tileSet.setOffsetX(in.readFloat());
+        tileSet.setOffsetY(in.readFloat());
+        tileSet.setImageSource(in.readUTF());
+        tileSet.setImageWidth(in.readInt());
+        tileSet.setImageHeight(in.readInt());
+        readProperties(tileSet.getProperties(), in);
+
+        var tiles = in.readInt();
+        for (int i = 0; i < tiles; i++) {
+            var tile = new TileDescriptor();
+            tile.setId(in.readInt());
+            readProperties(tile.getProperties(), in);
+
+            var colliders = in.readInt();
+            for (int c = 0; c < colliders; c++)
+                tile.getColliders().add(readRectangle(in));
+
+            if (in.readBoolean()) {
+                var frames = new int[in.readInt()];
+                var intervals = new int[frames.length];
+                for (int f = 0; f < frames.length; f++) {
+                    frames[f] = in.readInt();
+                    intervals[f] = in.readInt();
+                }
+
+                tile.setAnimationFrames(frames);
+                tile.setAnimationIntervals(intervals);
+            }
+
+            tileSet.getTiles().add(tile);
+        }
+
+        return tileSet;
+    }
+
+    private static void writeLayer(LayerDescriptor layer, DataOutputStream out) throws IOException {
+        out.writeBoolean(layer.isTileLayer());
+        out.writeUTF(layer.getName());
+        out.writeBoolean(layer.isVisible());
+        out.writeFloat(layer.getOpacity());
+        out.writeFloat(layer.getOffsetX());
+        out.writeFloat(layer.getOffsetY());
+        writeProperties(layer.getProperties(), out);
+
+        if (layer.isTileLayer()) {
+            out.writeInt(layer.getWidth());
+            out.writeInt(layer.getHeight());
+            out.writeInt(layer.getTileWidth());
+            out.writeInt(layer.getTileHeight());
+            writeCells(layer.getCells(), out);
+            return;
+        }
+
+        out.writeInt(layer.getObjects().size);
+        for (RectangleMapObject object : layer.getObjects()) {
+            out.writeUTF(object.getName() == null ? "" : object.getName());
+            out.writeBoolean(object.isVisible());
+            writeRectangle(object.getRectangle(), out);
+            writeProperties(object.getProperties(), out);
+        }
+    }
+
+    private static LayerDescriptor readLayer(DataInputStream in) throws IOException {
+        var layer = new LayerDescriptor();
+        layer.setTileLayer(in.readBoolean());
+        layer.setName(in.readUTF());
+        layer.setVisible(in.readBoolean());
+        layer.setOpacity(in.readFloat());
+        layer.setOffsetX(in.readFloat());
+        layer.setOffsetY(in.readFloat());
+        readProperties(layer.getProperties(), in);
+
+        if (layer.isTileLayer()) {
+            layer.setWidth(in.readInt());
+            layer.setHeight(in.readInt());
+            layer.setTileWidth(in.readInt());
+            layer.setTileHeight(in.readInt());
+            layer.setCells(readCells(layer.getWidth() * layer.getHeight(), in));
+            return layer;
+        }
+
+        var objects = in.readInt();
+        for (int i = 0; i < objects; i++) {
+            var object = new RectangleMapObject();
+            var name = in.readUTF();
+            object.setName(name.isEmpty() ? null : name);
+            object.setVisible(in.readBoolean());
+            object.getRectangle().set(readRectangle(in));
+            readProperties(object.getProperties(), in);
+
+            layer.getObjects().add(object);
+        }
+
+        return layer;
+    }
+
+    // alternating runs of empty cells and literal cells, the layers are mostly empty
+    private static void writeCells(int[] cells, DataOutputStream out) throws IOException {
+        var i = 0;
+        while (i < cells.length) {
+            var emptyStart = i;
+            while (i < cells.length && cells[i] == 0)
+                i++;
+            out.writeInt(i - emptyStart);
+
+            var literalStart = i;
+            while (i < cells.length && cells[i] != 0)
+                i++;
+            out.writeInt(i - literalStart);
+
+            for (int l = literalStart; l < i; l++)
+                out.writeInt(cells[l]);
+        }
+    }
+
+    private static int[] readCells(int count, DataInputStream in) throws IOException {
+        var cells = new int[count];
+
+        var i = 0;
+        while (i < count) {
+            i += in.readInt();
+
+            var literals = in.readInt();
+            for (int l = 0; l < literals; l++)
+                cells[i++] = in.readInt();
+        }
+
+        return cells;
+    }
+
+    private static void writeRectangle(Rectangle rectangle, DataOutputStream out) throws IOException {
+        out.writeFloat(rectangle.x);
+        out.writeFloat(rectangle.y);
+        out.writeFloat(rectangle.width);
+        out.writeFloat(rectangle.height);
+    }
+
+    private static Rectangle readRectangle(DataInputStream in) throws IOException {
+        return new Rectangle(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+    }
+
+    private static void writeProperties(MapProperties properties, DataOutputStream out) throws IOException {
+        var count = 0;
+        for (Iterator<String> keys = properties.getKeys(); keys.hasNext(); keys.next())
+            count++;
+        out.writeInt(count);
+
+        for (Iterator<String> keys = properties.getKeys(); keys.hasNext(); ) {
+            var key = keys.next();
+            var value = properties.get(key);
+            out.writeUTF(key);
+
+            if (value instanceof Integer) {
+                out.writeByte(TYPE_INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Float) {
+                out.writeByte(TYPE_FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Color) {
+                out.writeByte(TYPE_COLOR);
+                out.writeInt(Color.rgba8888((Color) value));
+            } else {
+                if (value != null && !(value instanceof String))
+                    logger.logInfo("Writing property " + key + " of type " + value.getClass().getSimpleName() + " as string");
+
+                out.writeByte(TYPE_STRING);
+                out.writeUTF(String.valueOf(value));
+            }
+        }
+    }
+
+    private static void readProperties(MapProperties properties, DataInputStream in) throws IOException {
+        var count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            var key = in.readUTF();
+            var type = in.readByte();
+
+            switch (type) {
+                case TYPE_INT:
+                    properties.put(key, in.readInt());
+                    break;
+                case TYPE_FLOAT:
+                    properties.put(key, in.readFloat());
+                    break;
+                case TYPE_BOOLEAN:
+                    properties.put(key, in.readBoolean());
+                    break;
+                case TYPE_COLOR:
+                    properties.put(key, new Color(in.readInt()));
+                    break;
+                case TYPE_STRING:
+                    properties.put(key, in.readUTF());
+                    break;
+                default:
+                    throw new GdxRuntimeException("Unknown property type " + type + " of " + key);
+            }
+        }
+    }
+}
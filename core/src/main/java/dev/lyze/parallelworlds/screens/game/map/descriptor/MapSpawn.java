@@ -0,0 +1,14 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.maps.MapProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MapSpawn {
+    private int x, y;
+    private String type;
+    private int step;
+    private MapProperties properties;
+}
@@ -0,0 +1,614 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.XmlReader;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import dev.lyze.parallelworlds.logger.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+// reads a tmx into a descriptor from the xml callbacks without building a dom, layer data is decoded on a worker pool
+public class StreamingTmxReader extends XmlReader {
+    private static final Logger<StreamingTmxReader> logger = new Logger<>(StreamingTmxReader.class);
+
+    private static final int DECODE_THREADS = 4;
+    private static AsyncExecutor executor;
+
+    private final Array<String> elements = new Array<>();
+    private final Array<AsyncResult<Void>> decodes = new Array<>();
+
+    private MapDescriptor descriptor;
+    private int mapWidth, mapHeight, mapTileWidth, mapTileHeight;
+
+    private TileSetDescriptor tileSet;
+    private TileDescriptor tile;
+    private final IntArray frames = new IntArray(), intervals = new IntArray();
+
+    private LayerDescriptor layer;
+    private String encoding, compression;
+    private int xmlTileIndex;
+
+    private RectangleMapObject object;
+    private boolean rectangleObject;
+
+    private MapProperties properties;
+    private String propertyName, propertyType, propertyValue;
+
+    public MapDescriptor read(FileHandle file) {
+        descriptor = new MapDescriptor();
+
+        try {
+            parse(file);
+            for (AsyncResult<Void> decode : decodes)
+                decode.get();
+        } finally {
+            decodes.clear();
+            elements.clear();
+        }
+
+        return descriptor;
+    }
+
+    @Override
+    protected void open(String name) {
+        elements.add(name);
+        var parent = elements.size > 1 ? elements.get(elements.size - 2) : "";
+
+        switch (name) {
+            case "tileset":
+                tileSet = new TileSetDescriptor();
+                break;
+            case "tile":
+                if (parent.equals("tileset")) {
+                    tile = new TileDescriptor();
+                    frames.clear();
+                    intervals.clear();
+                } else if (parent.equals("data")) {
+                    xmlTileIndex++;
+                }
+                break;
+            case "image":
+                if (parent.equals("tile"))
+                    throw new GdxRuntimeException("Tileset " + tileSet.getName() + " is an image collection, only single image tilesets are supported");
+                break;
+            case "layer":
+                layer = new LayerDescriptor();
+                layer.setTileLayer(true);
+                layer.setTileWidth(mapTileWidth);
+                layer.setTileHeight(mapTileHeight);
+                descriptor.getLayers().add(layer);
+                break;
+            case "data":
+                encoding = compression = null;
+                xmlTileIndex = 0;
+                layer.setCells(new int[layer.getWidth() * layer.getHeight()]);
+                break;
+            case "chunk":
+                throw new GdxRuntimeException("Infinite maps aren't supported");
+            case "group":
+                throw new GdxRuntimeException("Group layers aren't supported");
+            case "objectgroup":
+                if (parent.equals("map")) {
+                    layer = new LayerDescriptor();
+                    descriptor.getLayers().add(layer);
+                }
+                break;
+            case "imagelayer":
+                logger.logInfo("Skipping image layer");
+                break;
+            case "object":
+                object = new RectangleMapObject();
+                rectangleObject = true;
+                break;
+            case "ellipse":
+            case "polygon":
+            case "polyline":
+            case "point":
+            case "text":
+                rectangleObject = false;
+                break;
+            case "properties":
+                properties = getPropertiesTarget(parent);
+                break;
+            case "property":
+                propertyName = propertyType = propertyValue = null;
+                break;
+        }
+    }
+
+    private MapProperties getPropertiesTarget(String parent) {
+        switch (parent) {
+            case "map":
+                return descriptor.getProperties();
+            case "tileset":
+                return tileSet.getProperties();
+            case "tile":
+                return tile.getProperties();
+            case "layer":
+            case "objectgroup":
+                return object == null && layer != null ? layer.getProperties() : new MapProperties();
+            case "object":
+                return object.getProperties();
+            default:
+                return new MapProperties();
+        }
+    }
+
+    @Override
+    protected void attribute(String name, String value) {
+        var element = elements.peek();
+        var parent = elements.size > 1 ? elements.get(elements.size - 2) : "";
+
+        switch (element) {
+            case "map":
+                mapAttribute(name, value);
+                break;
+            case "tileset":
+                tileSetAttribute(name, value);
+                break;
+            case "tileoffset":
+                if (name.equals("x"))
+                    tileSet.setOffsetX(Float.parseFloat(value));
+                else if (name.equals("y"))
+                    tileSet.setOffsetY(-Float.parseFloat(value));
+                break;
+            case "image":
+                if (!parent.equals("tileset"))
+                    break;
+                if (name.equals("source"))
+                    tileSet.setImageSource(value);
+                else if (name.equals("width"))
+                    tileSet.setImageWidth(Integer.parseInt(value));
+                else if (name.equals("height"))
+                    tileSet.setImageHeight(Integer.parseInt(value));
+                break;
+            case "tile":
+                if (parent.equals("tileset")) {
+                    if (name.equals("id"))
+                        tile.setId(Integer.parseInt(value));
+                    else if (name.equals("terrain") || name.equals("probability"))
+                        tile.getProperties().put(name, value);
+                } else if (parent.equals("data") && name.equals("gid")) {
+                    setCell(layer.getCells(), xmlTileIndex - 1, (int) Long.parseLong(value), layer.getWidth(), layer.getHeight());
+                }
+                break;
+            case "frame":
+                if (name.equals("tileid"))
+                    frames.add(Integer.parseInt(value));
+                else if (name.equals("duration"))
+                    intervals.add(Integer.parseInt(value));
+                break;
+            case "layer":
+            case "objectgroup":
+                if (parent.equals("map"))
+                    layerAttribute(name, value);
+                break;
+            case "data":
+                if (name.equals("encoding"))
+                    encoding = value;
+                else if (name.equals("compression"))
+                    compression = value;
+                break;
+            case "object":
+                objectAttribute(name, value);
+                break;
+            case "property":
+                if (name.equals("name"))
+                    propertyName = value;
+                else if (name.equals("type"))
+                    propertyType = value;
+                else if (name.equals("value"))
+                    propertyValue = value;
+                break;
+        }
+    }
+
+    private void mapAttribute(String name, String value) {
+        switch (name) {
+            case "width":
+                descriptor.getProperties().put(name, mapWidth = Integer.parseInt(value));
+                break;
+            case "height":
+                descriptor.getProperties().put(name, mapHeight = Integer.parseInt(value));
+                break;
+            case "tilewidth":
+                descriptor.getProperties().put(name, mapTileWidth = Integer.parseInt(value));
+                break;
+            case "tileheight":
+                descriptor.getProperties().put(name, mapTileHeight = Integer.parseInt(value));
+                break;
+            case "hexsidelength":
+                descriptor.getProperties().put(name, Integer.parseInt(value));
+                break;
+            case "orientation":
+            case "staggeraxis":
+            case "staggerindex":
+            case "backgroundcolor":
+                descriptor.getProperties().put(name, value);
+                break;
+        }
+    }
+
+    private void tileSetAttribute(String name, String value) {
+        switch (name) {
+            case "source":
+                throw new GdxRuntimeException("External tileset " + value + " isn't supported, embed it into the map");
+            case "firstgid":
+                tileSet.setFirstGid(Integer.parseInt(value));
+                break;
+            case "name":
+                tileSet.setName(value);
+                break;
+            case "tilewidth":
+                tileSet.setTileWidth(Integer.parseInt(value));
+                break;
+            case "tileheight":
+                tileSet.setTileHeight(Integer.parseInt(value));
+                break;
+            case "spacing":
+                tileSet.setSpacing(Integer.parseInt(value));
+                break;
+            case "margin":
+                tileSet.setMargin(Integer.parseInt(value));
+                break;
+        }
+    }
+
+    private void layerAttribute(String name, String value) {
+        switch (name) {
+            case "name":
+                layer.setName(value);
+                break;
+            case "width":
+                layer.setWidth(Integer.parseInt(value));
+                break;
+            case "height":
+                layer.setHeight(Integer.parseInt(value));
+                break;
+            case "opacity":
+                layer.setOpacity(Float.parseFloat(value));
+                break;
+            case "visible":
+                layer.setVisible(Integer.parseInt(value) == 1);
+                break;
+            case "offsetx":
+                layer.setOffsetX(Float.parseFloat(value));
+                break;
+            case "offsety":
+                layer.setOffsetY(Float.parseFloat(value));
+                break;
+        }
+    }
+
+    private void objectAttribute(String name, String value) {
+        var rectangle = object.getRectangle();
+        switch (name) {
+            case "x":
+                rectangle.x = Float.parseFloat(value);
+                break;
+            case "y":
+                rectangle.y = Float.parseFloat(value);
+                break;
+            case "width":
+                rectangle.width = Float.parseFloat(value);
+                break;
+            case "height":
+                rectangle.height = Float.parseFloat(value);
+                break;
+            case "name":
+                object.setName(value);
+                break;
+            case "visible":
+                object.setVisible(Integer.parseInt(value) == 1);
+                break;
+            case "id":
+                object.getProperties().put(name, Integer.parseInt(value));
+                break;
+            case "rotation":
+                object.getProperties().put(name, Float.parseFloat(value));
+                break;
+            case "type":
+                object.getProperties().put(name, value);
+                break;
+            case "gid":
+                rectangleObject = false;
+                break;
+        }
+    }
+
+    @Override
+    protected void text(String text) {
+        switch (elements.peek()) {
+            case "data":
+                decode(layer, text, encoding, compression);
+                break;
+            case "property":
+                if (propertyValue == null)
+                    propertyValue = text;
+                break;
+        }
+    }
+
+    @Override
+    protected void close() {
+        var name = elements.pop();
+        var parent = elements.size > 0 ? elements.peek() : "";
+
+        switch (name) {
+            case "tileset":
+                var props = tileSet.getProperties();
+                props.put("firstgid", tileSet.getFirstGid());
+                props.put("imagesource", tileSet.getImageSource());
+                props.put("imagewidth", tileSet.getImageWidth());
+                props.put("imageheight", tileSet.getImageHeight());
+                props.put("tilewidth", tileSet.getTileWidth());
+                props.put("tileheight", tileSet.getTileHeight());
+                props.put("margin", tileSet.getMargin());
+                props.put("spacing", tileSet.getSpacing());
+
+                descriptor.getTileSets().add(tileSet);
+                tileSet = null;
+                break;
+            case "tile":
+                if (!parent.equals("tileset"))
+                    break;
+
+                if (frames.size > 0) {
+                    tile.setAnimationFrames(frames.toArray());
+                    tile.setAnimationIntervals(intervals.toArray());
+                }
+                tileSet.getTiles().add(tile);
+                tile = null;
+                break;
+            case "object":
+                closeObject(parent);
+                break;
+            case "layer":
+            case "objectgroup":
+                if (parent.equals("map"))
+                    layer = null;
+                break;
+            case "property":
+                if (propertyName != null)
+                    properties.put(propertyName, castProperty(propertyName, propertyValue, propertyType));
+                break;
+            case "properties":
+                properties = null;
+                break;
+        }
+    }
+
+    // tiled is y down, flip the rectangles like the TmxMapLoader does
+    private void closeObject(String parent) {
+        var closed = object;
+        object = null;
+
+        var insideTile = tile != null && elements.size > 1 && elements.get(elements.size - 2).equals("tile");
+        if (!rectangleObject) {
+            logger.logInfo("Skipping non rectangle object " + closed.getName());
+            return;
+        }
+
+        var rectangle = closed.getRectangle();
+        if (insideTile) {
+            rectangle.y = tileSet.getTileHeight() - rectangle.y - rectangle.height;
+            tile.getColliders().add(new Rectangle(rectangle));
+            return;
+        }
+
+        if (!parent.equals("objectgroup") || layer == null)
+            return;
+
+        rectangle.y = mapHeight * mapTileHeight - rectangle.y - rectangle.height;
+        closed.getProperties().put("x", rectangle.x);
+        closed.getProperties().put("y", rectangle.y);
+        closed.getProperties().put("width", rectangle.width);
+        closed.getProperties().put("height", rectangle.height);
+        layer.getObjects().add(closed);
+    }
+
+    private Object castProperty(String name, String value, String type) {
+        if (value == null || type == null)
+            return value;
+
+        switch (type) {
+            case "int":
+                return Integer.valueOf(value);
+            case "float":
+                return Float.valueOf(value);
+            case "bool":
+                return Boolean.valueOf(value);
+            case "color":
+                // tiled stores #AARRGGBB
+                return Color.valueOf(value.substring(3) + value.substring(1, 3));
+            case "string":
+            case "file":
+                return value;
+            default:
+                throw new GdxRuntimeException("Wrong type given for property " + name + ", given : " + type);
+        }
+    }
+
+    private void decode(LayerDescriptor target, String text, String encoding, String compression) {
+        if (encoding == null)
+            return;
+
+        var width = target.getWidth();
+        var height = target.getHeight();
+        var cells = target.getCells();
+
+        decodes.add(getExecutor().submit(() -> {
+            switch (encoding) {
+                case "csv":
+                    decodeCsv(text, cells, width, height);
+                    break;
+                case "base64":
+                    if (compression == null || compression.isEmpty())
+                        decodeBase64(text, cells, width, height);
+                    else
+                        decodeCompressed(Base64Reader.decode(text), compression, cells, width, height);
+                    break;
+                default:
+                    throw new GdxRuntimeException("Unrecognised encoding " + encoding + " for layer " + target.getName());
+            }
+
+            return null;
+        }));
+    }
+
+    private static synchronized AsyncExecutor getExecutor() {
+        if (executor == null)
+            executor = new AsyncExecutor(DECODE_THREADS);
+
+        return executor;
+    }
+
+    private static void decodeCsv(String text, int[] cells, int width, int height) {
+        var index = 0;
+        long value = 0;
+        var digits = false;
+
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            var c = i < length ? text.charAt(i) : ',';
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                digits = true;
+            } else if (c == ',' && digits) {
+                setCell(cells, index++, (int) value, width, height);
+                value = 0;
+                digits = false;
+            }
+        }
+    }
+
+    // four base64 chars at a time straight into little endian ints, no intermediate byte array
+    private static void decodeBase64(String text, int[] cells, int width, int height) {
+        var index = 0;
+        var gid = 0;
+        var gidBytes = 0;
+        var bits = 0;
+        var bitCount = 0;
+
+        for (int i = 0, length = text.length(); i < length; i++) {
+            var value = Base64Reader.value(text.charAt(i));
+            if (value < 0)
+                continue;
+
+            bits = bits << 6 | value;
+            bitCount += 6;
+            if (bitCount < 8)
+                continue;
+
+            bitCount -= 8;
+            gid |= ((bits >> bitCount) & 0xFF) << (gidBytes * 8);
+            if (++gidBytes == 4) {
+                setCell(cells, index++, gid, width, height);
+                gid = 0;
+                gidBytes = 0;
+            }
+        }
+    }
+
+    // streams only, gwt doesn't emulate Inflater
+    private static void decodeCompressed(byte[] bytes, String compression, int[] cells, int width, int height) {
+        var decompressed = new byte[cells.length * 4];
+
+        InputStream stream = null;
+        try {
+            switch (compression) {
+                case "zlib":
+                    stream = new InflaterInputStream(new ByteArrayInputStream(bytes));
+                    break;
+                case "gzip":
+                    stream = new GZIPInputStream(new ByteArrayInputStream(bytes), bytes.length);
+                    break;
+                default:
+                    throw new GdxRuntimeException("Unrecognised compression " + compression);
+            }
+
+            var offset = 0;
+            while (offset < decompressed.length) {
+                var count = stream.read(decompressed, offset, decompressed.length - offset);
+                if (count < 0)
+                    break;
+                offset += count;
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error decompressing " + compression + " layer data", e);
+        } finally {
+            StreamUtils.closeQuietly(stream);
+        }
+
+        for (int i = 0; i < cells.length; i++) {
+            var offset = i * 4;
+            var gid = (decompressed[offset] & 0xFF) | (decompressed[offset + 1] & 0xFF) << 8 | (decompressed[offset + 2] & 0xFF) << 16 | (decompressed[offset + 3] & 0xFF) << 24;
+            setCell(cells, i, gid, width, height);
+        }
+    }
+
+    // tmx rows go top down, the descriptor starts at the bottom row
+    private static void setCell(int[] cells, int index, int tmxGid, int width, int height) {
+        if (index >= width * height)
+            return;
+
+        var row = height - 1 - index / width;
+        cells[row * width + index % width] = LayerDescriptor.fromTmx(tmxGid);
+    }
+
+    private static class Base64Reader {
+        private static final byte[] VALUES = new byte[128];
+
+        static {
+            for (int i = 0; i < VALUES.length; i++)
+                VALUES[i] = -1;
+
+            var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+            for (int i = 0; i < alphabet.length(); i++)
+                VALUES[alphabet.charAt(i)] = (byte) i;
+        }
+
+        public static int value(char c) {
+            return c < 128 ? VALUES[c] : -1;
+        }
+
+        public static byte[] decode(String text) {
+            var bytes = new byte[text.length() * 3 / 4];
+            var length = 0;
+            var bits = 0;
+            var bitCount = 0;
+
+            for (int i = 0; i < text.length(); i++) {
+                var value = value(text.charAt(i));
+                if (value < 0)
+                    continue;
+
+                bits = bits << 6 | value;
+                bitCount += 6;
+                if (bitCount >= 8) {
+                    bitCount -= 8;
+                    bytes[length++] = (byte) (bits >> bitCount);
+                }
+            }
+
+            if (length == bytes.length)
+                return bytes;
+
+            var trimmed = new byte[length];
+            System.arraycopy(bytes, 0, trimmed, 0, length);
+            return trimmed;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import lombok.Data;
+
+@Data
+public class TileDescriptor {
+    private int id;
+
+    private final MapProperties properties = new MapProperties();
+    private final Array<Rectangle> colliders = new Array<>();
+
+    // local tile ids, null when the tile isn't animated
+    private int[] animationFrames;
+    private int[] animationIntervals;
+
+    public boolean isAnimated() {
+        return animationFrames != null;
+    }
+}
@@ -0,0 +1,20 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.utils.Array;
+import lombok.Data;
+
+@Data
+public class TileSetDescriptor {
+    private String name;
+    private int firstGid;
+    private int tileWidth, tileHeight;
+    private int spacing, margin;
+    private float offsetX, offsetY;
+
+    private String imageSource;
+    private int imageWidth, imageHeight;
+
+    private final MapProperties properties = new MapProperties();
+    private final Array<TileDescriptor> tiles = new Array<>();
+}
@@ -0,0 +1,123 @@
+package dev.lyze.parallelworlds.screens.game.map.descriptor;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+// builds the same TiledMap the TmxMapLoader would, the descriptor is kept in the map properties
+public class TiledMapFactory {
+    public static TiledMap create(MapDescriptor descriptor, ObjectMap<String, Texture> textures) {
+        var map = new TiledMap();
+        map.getProperties().putAll(descriptor.getProperties());
+        map.getProperties().put(MapDescriptor.PROPERTY, descriptor);
+
+        for (TileSetDescriptor tileSet : descriptor.getTileSets())
+            map.getTileSets().addTileSet(createTileSet(tileSet, textures.get(tileSet.getImageSource())));
+
+        for (LayerDescriptor layer : descriptor.getLayers())
+            map.getLayers().add(layer.isTileLayer() ? createTileLayer(layer, map) : createObjectLayer(layer));
+
+        return map;
+    }
+
+    private static TiledMapTileSet createTileSet(TileSetDescriptor descriptor, Texture texture) {
+        var tileSet = new TiledMapTileSet();
+        tileSet.setName(descriptor.getName());
+        tileSet.getProperties().putAll(descriptor.getProperties());
+
+        var stopWidth = descriptor.getImageWidth() - descriptor.getTileWidth();
+        var stopHeight = descriptor.getImageHeight() - descriptor.getTileHeight();
+
+        var id = descriptor.getFirstGid();
+        for (int y = descriptor.getMargin(); y <= stopHeight; y += descriptor.getTileHeight() + descriptor.getSpacing()) {
+            for (int x = descriptor.getMargin(); x <= stopWidth; x += descriptor.getTileWidth() + descriptor.getSpacing()) {
+                var tile = new StaticTiledMapTile(new TextureRegion(texture, x, y, descriptor.getTileWidth(), descriptor.getTileHeight()));
+                tile.setId(id);
+                tile.setOffsetX(descriptor.getOffsetX());
+                tile.setOffsetY(descriptor.getOffsetY());
+                tileSet.putTile(id++, tile);
+            }
+        }
+
+        for (TileDescriptor tileDescriptor : descriptor.getTiles()) {
+            var tileId = descriptor.getFirstGid() + tileDescriptor.getId();
+            var tile = tileSet.getTile(tileId);
+            if (tile == null)
+                continue;
+
+            if (tileDescriptor.isAnimated()) {
+                var frames = new Array<StaticTiledMapTile>();
+                for (int frame : tileDescriptor.getAnimationFrames())
+                    frames.add((StaticTiledMapTile) tileSet.getTile(descriptor.getFirstGid() + frame));
+
+                var animatedTile = new AnimatedTiledMapTile(new IntArray(tileDescriptor.getAnimationIntervals()), frames);
+                animatedTile.setId(tileId);
+                tileSet.putTile(tileId, animatedTile);
+                tile = animatedTile;
+            }
+
+            tile.getProperties().putAll(tileDescriptor.getProperties());
+            for (Rectangle collider : tileDescriptor.getColliders())
+                tile.getObjects().add(new RectangleMapObject(collider.x, collider.y, collider.width, collider.height));
+        }
+
+        return tileSet;
+    }
+
+    private static TiledMapTileLayer createTileLayer(LayerDescriptor descriptor, TiledMap map) {
+        var layer = new TiledMapTileLayer(descriptor.getWidth(), descriptor.getHeight(), descriptor.getTileWidth(), descriptor.getTileHeight());
+        setupLayer(layer, descriptor);
+
+        var tileSets = map.getTileSets();
+        var cells = descriptor.getCells();
+        for (int y = 0; y < descriptor.getHeight(); y++) {
+            for (int x = 0; x < descriptor.getWidth(); x++) {
+                var packed = cells[y * descriptor.getWidth() + x];
+                if (packed == 0)
+                    continue;
+
+                var tile = tileSets.getTile(packed & LayerDescriptor.GID_MASK);
+                if (tile == null)
+                    continue;
+
+                var cell = new TiledMapTileLayer.Cell();
+                cell.setTile(tile);
+                cell.setFlipHorizontally((packed & LayerDescriptor.FLIP_HORIZONTALLY) != 0);
+                cell.setFlipVertically((packed & LayerDescriptor.FLIP_VERTICALLY) != 0);
+                cell.setRotation((packed >>> LayerDescriptor.ROTATION_SHIFT) & 3);
+                layer.setCell(x, y, cell);
+            }
+        }
+
+        return layer;
+    }
+
+    private static MapLayer createObjectLayer(LayerDescriptor descriptor) {
+        var layer = new MapLayer();
+        setupLayer(layer, descriptor);
+
+        for (RectangleMapObject object : descriptor.getObjects())
+            layer.getObjects().add(object);
+
+        return layer;
+    }
+
+    private static void setupLayer(MapLayer layer, LayerDescriptor descriptor) {
+        layer.setName(descriptor.getName());
+        layer.setVisible(descriptor.isVisible());
+        layer.setOpacity(descriptor.getOpacity());
+        layer.setOffsetX(descriptor.getOffsetX());
+        layer.setOffsetY(descriptor.getOffsetY());
+        layer.getProperties().putAll(descriptor.getProperties());
+    }
+}
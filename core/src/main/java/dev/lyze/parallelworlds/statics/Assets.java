@@ -2,7 +2,6 @@ package dev.lyze.parallelworlds.statics;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import dev.lyze.parallelworlds.logger.Logger;
 import dev.lyze.parallelworlds.statics.assets.GameAssets;
 import dev.lyze.parallelworlds.statics.assets.sfx.SoundAssets;
@@ -13,8 +12,10 @@ import dev.lyze.parallelworlds.statics.assets.loadingScreen.LoadingScreenAssets;
 import dev.lyze.parallelworlds.statics.assets.mainMenu.MainMenuAssets;
 import dev.lyze.parallelworlds.statics.assets.mainMenu.MainMenuTextureAtlas;
 import dev.lyze.parallelworlds.statics.assets.sfx.MusicAssets;
+import dev.lyze.parallelworlds.statics.utils.CompiledMapLoader;
 import dev.lyze.parallelworlds.statics.utils.DynamicTextureAtlasAssetLoader;
 import dev.lyze.parallelworlds.statics.utils.InternalOrExternalFileHandleResolver;
+import dev.lyze.parallelworlds.statics.utils.StreamingTmxMapLoader;
 import lombok.Getter;
 
 public class Assets {
@@ -51,7 +52,8 @@ public class Assets {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public AssetManager createAssMan() {
         AssetManager ass = new AssetManager();
-        ass.setLoader(TiledMap.class, new TmxMapLoader(new InternalOrExternalFileHandleResolver()));
+        ass.setLoader(TiledMap.class, new StreamingTmxMapLoader(new InternalOrExternalFileHandleResolver()));
+        ass.setLoader(TiledMap.class, CompiledMapLoader.EXTENSION, new CompiledMapLoader(new InternalOrExternalFileHandleResolver()));
         for (Class<?> textureAtlasClass : new Class<?>[] { MainMenuTextureAtlas.class,  UiTextureAtlas.class, CharactersAtlas.class, ParticlesAtlas.class}) {
             ass.setLoader(textureAtlasClass, new DynamicTextureAtlasAssetLoader(new InternalOrExternalFileHandleResolver(), textureAtlasClass));
         }
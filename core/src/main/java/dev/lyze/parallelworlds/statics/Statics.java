@@ -1,10 +1,16 @@
 package dev.lyze.parallelworlds.statics;
 
 import dev.lyze.parallelworlds.ParallelWorlds;
+import dev.lyze.parallelworlds.screens.game.IslandScheduler;
+import dev.lyze.parallelworlds.screens.game.SerialIslandScheduler;
+import dev.lyze.parallelworlds.screens.game.SerialThinkScheduler;
+import dev.lyze.parallelworlds.screens.game.ThinkScheduler;
 
 public class Statics {
     public static ParallelWorlds parallelWorlds;
     public final static Assets assets = new Assets();
     public static boolean debugging = false;
     public static boolean isMobileDevice;
+    public static ThinkScheduler thinkScheduler = new SerialThinkScheduler();
+    public static IslandScheduler islandScheduler = new SerialIslandScheduler();
 }
@@ -2,16 +2,29 @@ package dev.lyze.parallelworlds.statics.assets;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.GradientRenderer;
 import dev.lyze.parallelworlds.statics.assets.sprites.CharactersAtlas;
 import dev.lyze.parallelworlds.statics.assets.sprites.ParticlesAtlas;
 import dev.lyze.parallelworlds.statics.assets.sprites.UiTextureAtlas;
+import dev.lyze.parallelworlds.statics.utils.CompiledMapLoader;
 import dev.lyze.parallelworlds.statics.utils.DynamicAssets;
 import dev.lyze.parallelworlds.statics.utils.LoadAssetFromFile;
 import lombok.Getter;
+import lombok.Setter;
 
 public class GameAssets extends DynamicAssets  {
+    private static final Logger<GameAssets> logger = new Logger<>(GameAssets.class);
+
+    // the remaining maps are reached through the level property of each map
+    public static final String FIRST_MAP = "Nsyse_Tutorial";
+
     @Getter @LoadAssetFromFile("atlas/ui.atlas")
     private UiTextureAtlas uiAtlas;
 
@@ -27,24 +40,100 @@ public class GameAssets extends DynamicAssets  {
     @Getter @LoadAssetFromFile("skins/default/default.json")
     private Skin skin;
 
-    @Getter @LoadAssetFromFile("maps/Nsyse_Tutorial.tmx")
-    private TiledMap nsyseTutorial;
-    @Getter @LoadAssetFromFile("maps/Lyze_1.tmx")
-    private TiledMap lyze1;
-    @Getter @LoadAssetFromFile("maps/Nsyse_1.tmx")
-    private TiledMap nsyse1;
-    @Getter @LoadAssetFromFile("maps/Nsyse_2.tmx")
-    private TiledMap nsyse2;
-    @Getter @LoadAssetFromFile("maps/Nsyse_3.tmx")
-    private TiledMap nsyse3;
-    @Getter @LoadAssetFromFile("maps/Borazilla_1.tmx")
-    private TiledMap borazilla1;
+    @Getter @Setter
+    private int residentMapBudget = 2;
+    private final Array<String> residentMaps = new Array<>();
+    private final ObjectSet<String> retainedMaps = new ObjectSet<>();
+    private final ObjectMap<String, String> mapFileNames = new ObjectMap<>();
+    // sampled gradient quads of the resident maps, dropped together with their map
+    private final ObjectMap<MapLayer, Array<GradientRenderer.GradientQuad>> gradientQuads = new ObjectMap<>();
 
     public GameAssets(AssetManager assMan) {
         super(assMan);
     }
 
     public TiledMap get(String path) {
-        return getAssMan().get("maps/" + path + ".tmx", TiledMap.class);
+        var fileName = getMapFileName(path);
+
+        if (!getAssMan().isLoaded(fileName)) {
+            prefetch(path);
+            getAssMan().finishLoadingAsset(fileName);
+        }
+
+        touch(fileName);
+        return getAssMan().get(fileName, TiledMap.class);
+    }
+
+    public void prefetch(String path) {
+        if (path == null)
+            return;
+
+        var fileName = getMapFileName(path);
+        if (!getAssMan().contains(fileName)) {
+            logger.logInfo("Queueing map " + fileName);
+            getAssMan().load(fileName, TiledMap.class);
+        }
+
+        touch(fileName);
+    }
+
+    public void retain(String currentPath, String nextPath) {
+        retainedMaps.clear();
+        retainedMaps.add(getMapFileName(currentPath));
+        if (nextPath != null)
+            retainedMaps.add(getMapFileName(nextPath));
+
+        prefetch(nextPath);
+        touch(getMapFileName(currentPath));
+
+        for (int i = 0; i < residentMaps.size && residentMaps.size > residentMapBudget; ) {
+            var fileName = residentMaps.get(i);
+            if (retainedMaps.contains(fileName)) {
+                i++;
+                continue;
+            }
+
+            logger.logInfo("Unloading map " + fileName);
+            residentMaps.removeIndex(i);
+            if (getAssMan().isLoaded(fileName)) {
+                for (MapLayer layer : getAssMan().get(fileName, TiledMap.class).getLayers())
+                    gradientQuads.remove(layer);
+            }
+            getAssMan().unload(fileName);
+        }
+    }
+
+    public Array<GradientRenderer.GradientQuad> getGradientQuads(MapLayer layer) {
+        return gradientQuads.get(layer);
+    }
+
+    public void putGradientQuads(MapLayer layer, Array<GradientRenderer.GradientQuad> quads) {
+        gradientQuads.put(layer, quads);
+    }
+
+    public void update() {
+        getAssMan().update();
+    }
+
+    private void touch(String fileName) {
+        residentMaps.removeValue(fileName, false);
+        residentMaps.add(fileName);
+    }
+
+    // prefer the compiled map the packaged game ships, unless the tmx was edited after it was compiled
+    private String getMapFileName(String path) {
+        var fileName = mapFileNames.get(path);
+        if (fileName == null) {
+            var resolver = getAssMan().getFileHandleResolver();
+            var tmx = "maps/" + path + ".tmx";
+            var compiled = "maps/" + path + CompiledMapLoader.EXTENSION;
+
+            var compiledFile = resolver.resolve(compiled);
+            fileName = compiledFile.exists() && compiledFile.lastModified() >= resolver.resolve(tmx).lastModified() ? compiled : tmx;
+
+            mapFileNames.put(path, fileName);
+        }
+
+        return fileName;
     }
 }
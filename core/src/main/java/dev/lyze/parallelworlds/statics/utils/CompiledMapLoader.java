@@ -0,0 +1,32 @@
+package dev.lyze.parallelworlds.statics.utils;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptorIO;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+// loads maps compiled by the tools module, no xml parsing and the colliders and spawns come precomputed
+public class CompiledMapLoader extends DescriptorMapLoader {
+    public static final String EXTENSION = ".pwmap";
+
+    public CompiledMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    protected MapDescriptor read(FileHandle file) {
+        var in = new DataInputStream(file.read(8192));
+        try {
+            return MapDescriptorIO.read(in);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read compiled map " + file.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.lyze.parallelworlds.statics.utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.TileSetDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.TiledMapFactory;
+
+// reads a map descriptor off the gl thread, loads the tileset textures as dependencies and builds the TiledMap from them
+public abstract class DescriptorMapLoader extends AsynchronousAssetLoader<TiledMap, DescriptorMapLoader.Parameters> {
+    private static final Logger<DescriptorMapLoader> logger = new Logger<>(DescriptorMapLoader.class);
+
+    private MapDescriptor descriptor;
+    private final ObjectMap<String, String> texturePaths = new ObjectMap<>();
+    private TiledMap map;
+
+    public DescriptorMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        descriptor = read(file);
+        texturePaths.clear();
+
+        var textureParameter = new TextureLoader.TextureParameter();
+        textureParameter.genMipMaps = false;
+        textureParameter.minFilter = Texture.TextureFilter.Nearest;
+        textureParameter.magFilter = Texture.TextureFilter.Nearest;
+
+        var dependencies = new Array<AssetDescriptor>();
+        for (TileSetDescriptor tileSet : descriptor.getTileSets()) {
+            if (texturePaths.containsKey(tileSet.getImageSource()))
+                continue;
+
+            var image = getRelativeFileHandle(file, tileSet.getImageSource());
+            texturePaths.put(tileSet.getImageSource(), image.path());
+            dependencies.add(new AssetDescriptor<>(image, Texture.class, textureParameter));
+        }
+
+        return dependencies;
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        var textures = new ObjectMap<String, Texture>();
+        for (ObjectMap.Entry<String, String> entry : texturePaths)
+            textures.put(entry.key, manager.get(entry.value, Texture.class));
+
+        map = TiledMapFactory.create(descriptor, textures);
+        logger.logInfo("Loaded map " + fileName);
+    }
+
+    @Override
+    public TiledMap loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        var loaded = map;
+        map = null;
+        descriptor = null;
+        return loaded;
+    }
+
+    protected abstract MapDescriptor read(FileHandle file);
+
+    private static FileHandle getRelativeFileHandle(FileHandle file, String path) {
+        var result = file.parent();
+        for (String token : path.split("/")) {
+            if (token.equals(".."))
+                result = result.parent();
+            else
+                result = result.child(token);
+        }
+
+        return result;
+    }
+
+    public static class Parameters extends AssetLoaderParameters<TiledMap> {
+    }
+}
@@ -0,0 +1,18 @@
+package dev.lyze.parallelworlds.statics.utils;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.StreamingTmxReader;
+
+// tmx maps that weren't compiled, e.g. external ones, parsed without a dom
+public class StreamingTmxMapLoader extends DescriptorMapLoader {
+    public StreamingTmxMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    protected MapDescriptor read(FileHandle file) {
+        return new StreamingTmxReader().read(file);
+    }
+}
@@ -0,0 +1,239 @@
+package dev.lyze.parallelworlds.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import dev.lyze.parallelworlds.logger.Logger;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+import static com.badlogic.gdx.graphics.g2d.Batch.NUM_VERTICES;
+
+// bakes every visible tile layer into SpriteCache chunks once, only animated tiles go through the batch each frame
+public class CachedOrthogonalTiledMapRenderer extends OrthogonalTiledMapRendererBleeding {
+    private static final Logger<CachedOrthogonalTiledMapRenderer> logger = new Logger<>(CachedOrthogonalTiledMapRenderer.class);
+
+    private static final int CHUNK_SIZE = 32;
+    private static final int PAGE_SIZE = 8191;
+
+    private final Array<SpriteCache> pages = new Array<>();
+    private int pageSpritesUsed;
+
+    private final ObjectMap<TiledMapTileLayer, CachedLayer> cachedLayers = new ObjectMap<>();
+
+    @Getter
+    private int cachedTileCount, animatedTileCount, chunkCount;
+    @Getter
+    private int drawnChunkCount;
+
+    public CachedOrthogonalTiledMapRenderer(TiledMap map, float unitScale) {
+        super(map, unitScale);
+
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer && layer.isVisible())
+                cachedLayers.put((TiledMapTileLayer) layer, cacheLayer((TiledMapTileLayer) layer));
+        }
+
+        logger.logInfo("Cached " + cachedTileCount + " tiles of " + cachedLayers.size + " layers into " + chunkCount + " chunks on " + pages.size + " pages, " + animatedTileCount + " animated tiles.");
+    }
+
+    private CachedLayer cacheLayer(TiledMapTileLayer layer) {
+        var cachedLayer = new CachedLayer(layer, unitScale);
+        var color = Color.toFloatBits(1f, 1f, 1f, layer.getOpacity());
+
+        for (int chunkY = 0; chunkY < cachedLayer.chunksY; chunkY++) {
+            for (int chunkX = 0; chunkX < cachedLayer.chunksX; chunkX++) {
+                var col1 = chunkX * CHUNK_SIZE;
+                var row1 = chunkY * CHUNK_SIZE;
+                var col2 = Math.min(layer.getWidth(), col1 + CHUNK_SIZE);
+                var row2 = Math.min(layer.getHeight(), row1 + CHUNK_SIZE);
+
+                var staticTiles = 0;
+                for (int row = row1; row < row2; row++) {
+                    for (int col = col1; col < col2; col++) {
+                        var cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null)
+                            continue;
+
+                        if (cell.getTile() instanceof AnimatedTiledMapTile) {
+                            cachedLayer.animatedCells.add(cell);
+                            cachedLayer.animatedPositions.add(col, row);
+                            animatedTileCount++;
+                        } else {
+                            staticTiles++;
+                        }
+                    }
+                }
+
+                if (staticTiles == 0)
+                    continue;
+
+                var page = obtainPage(staticTiles);
+                page.beginCache();
+                for (int row = row1; row < row2; row++) {
+                    for (int col = col1; col < col2; col++) {
+                        var cell = layer.getCell(col, row);
+                        if (cell == null || cell.getTile() == null || cell.getTile() instanceof AnimatedTiledMapTile)
+                            continue;
+
+                        setCellVertices(cell, cachedLayer.getTileX(col), cachedLayer.getTileY(row), color);
+                        page.add(cell.getTile().getTextureRegion().getTexture(), vertices, 0, NUM_VERTICES);
+                    }
+                }
+
+                var index = chunkY * cachedLayer.chunksX + chunkX;
+                cachedLayer.chunkIds[index] = page.endCache();
+                cachedLayer.chunkPages[index] = pages.size - 1;
+
+                cachedTileCount += staticTiles;
+                chunkCount++;
+            }
+        }
+
+        return cachedLayer;
+    }
+
+    private SpriteCache obtainPage(int sprites) {
+        if (pages.size == 0 || pageSpritesUsed + sprites > PAGE_SIZE) {
+            pages.add(new SpriteCache(PAGE_SIZE, true));
+            pageSpritesUsed = 0;
+        }
+
+        pageSpritesUsed += sprites;
+        return pages.peek();
+    }
+
+    @Override
+    public void render() {
+        drawnChunkCount = 0;
+
+        super.render();
+    }
+
+    @Override
+    public void renderTileLayer(TiledMapTileLayer layer) {
+        var cachedLayer = cachedLayers.get(layer);
+        if (cachedLayer == null) {
+            super.renderTileLayer(layer);
+            return;
+        }
+
+        batch.end();
+        renderChunks(cachedLayer);
+        batch.begin();
+
+        renderAnimatedCells(cachedLayer, layer);
+    }
+
+    private void renderChunks(CachedLayer cachedLayer) {
+        var chunkWidth = CHUNK_SIZE * cachedLayer.tileWidth;
+        var chunkHeight = CHUNK_SIZE * cachedLayer.tileHeight;
+
+        // one tile of margin for tiles with offsets or oversized regions
+        var chunkX1 = Math.max(0, (int) Math.floor((viewBounds.x - cachedLayer.offsetX - cachedLayer.tileWidth) / chunkWidth));
+        var chunkX2 = Math.min(cachedLayer.chunksX - 1, (int) Math.floor((viewBounds.x + viewBounds.width - cachedLayer.offsetX + cachedLayer.tileWidth) / chunkWidth));
+        var chunkY1 = Math.max(0, (int) Math.floor((viewBounds.y - cachedLayer.offsetY - cachedLayer.tileHeight) / chunkHeight));
+        var chunkY2 = Math.min(cachedLayer.chunksY - 1, (int) Math.floor((viewBounds.y + viewBounds.height - cachedLayer.offsetY + cachedLayer.tileHeight) / chunkHeight));
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+
+        SpriteCache current = null;
+        for (int chunkY = chunkY1; chunkY <= chunkY2; chunkY++) {
+            for (int chunkX = chunkX1; chunkX <= chunkX2; chunkX++) {
+                var index = chunkY * cachedLayer.chunksX + chunkX;
+                if (cachedLayer.chunkIds[index] < 0)
+                    continue;
+
+                var page = pages.get(cachedLayer.chunkPages[index]);
+                if (page != current) {
+                    if (current != null)
+                        current.end();
+
+                    page.setProjectionMatrix(batch.getProjectionMatrix());
+                    page.begin();
+                    current = page;
+                }
+
+                page.draw(cachedLayer.chunkIds[index]);
+                drawnChunkCount++;
+            }
+        }
+
+        if (current != null)
+            current.end();
+    }
+
+    private void renderAnimatedCells(CachedLayer cachedLayer, TiledMapTileLayer layer) {
+        if (cachedLayer.animatedCells.size == 0)
+            return;
+
+        var batchColor = batch.getColor();
+        var color = Color.toFloatBits(batchColor.r, batchColor.g, batchColor.b, batchColor.a * layer.getOpacity());
+
+        for (int i = 0; i < cachedLayer.animatedCells.size; i++) {
+            var x = cachedLayer.getTileX(cachedLayer.animatedPositions.get(i * 2));
+            var y = cachedLayer.getTileY(cachedLayer.animatedPositions.get(i * 2 + 1));
+
+            if (x + cachedLayer.tileWidth < viewBounds.x || x > viewBounds.x + viewBounds.width || y + cachedLayer.tileHeight < viewBounds.y || y > viewBounds.y + viewBounds.height)
+                continue;
+
+            var cell = cachedLayer.animatedCells.get(i);
+            setCellVertices(cell, x, y, color);
+            batch.draw(cell.getTile().getTextureRegion().getTexture(), vertices, 0, NUM_VERTICES);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+
+        pages.forEach(SpriteCache::dispose);
+        pages.clear();
+    }
+
+    private static class CachedLayer {
+        private final int chunksX, chunksY;
+        private final float tileWidth, tileHeight;
+        private final float offsetX, offsetY;
+
+        private final int[] chunkIds;
+        private final int[] chunkPages;
+
+        private final Array<TiledMapTileLayer.Cell> animatedCells = new Array<>();
+        private final IntArray animatedPositions = new IntArray();
+
+        public CachedLayer(TiledMapTileLayer layer, float unitScale) {
+            chunksX = (layer.getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            chunksY = (layer.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            tileWidth = layer.getTileWidth() * unitScale;
+            tileHeight = layer.getTileHeight() * unitScale;
+
+            offsetX = layer.getRenderOffsetX() * unitScale;
+            // offset in tiled is y down, so we flip it
+            offsetY = -layer.getRenderOffsetY() * unitScale;
+
+            chunkIds = new int[chunksX * chunksY];
+            chunkPages = new int[chunksX * chunksY];
+            Arrays.fill(chunkIds, -1);
+        }
+
+        public float getTileX(int col) {
+            return col * tileWidth + offsetX;
+        }
+
+        public float getTileY(int row) {
+            return row * tileHeight + offsetY;
+        }
+    }
+}
@@ -5,7 +5,10 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
 
 import static com.badlogic.gdx.graphics.g2d.Batch.*;
 
@@ -14,6 +17,8 @@ import static com.badlogic.gdx.graphics.g2d.Batch.*;
 public class OrthogonalTiledMapRendererBleeding extends OrthogonalTiledMapRenderer  {
     public OrthogonalTiledMapRendererBleeding(TiledMap map, float unitScale) {
         super(map, unitScale);
+
+        fixBleeding(map);
     }
 
     @Override
@@ -41,7 +46,6 @@ public class OrthogonalTiledMapRendererBleeding extends OrthogonalTiledMapRender
 
         float y = row2 * layerTileHeight + layerOffsetY;
         float xStart = col1 * layerTileWidth + layerOffsetX;
-        final float[] vertices = this.vertices;
 
         for (int row = row2; row >= row1; row--) {
             float x = xStart;
@@ -54,111 +58,8 @@ public class OrthogonalTiledMapRendererBleeding extends OrthogonalTiledMapRender
                 final TiledMapTile tile = cell.getTile();
 
                 if (tile != null) {
-                    final boolean flipX = cell.getFlipHorizontally();
-                    final boolean flipY = cell.getFlipVertically();
-                    final int rotations = cell.getRotation();
-
-                    TextureRegion region = tile.getTextureRegion();
-                    fixBleeding(region);
-
-                    float x1 = x + tile.getOffsetX() * unitScale;
-                    float y1 = y + tile.getOffsetY() * unitScale;
-                    float x2 = x1 + region.getRegionWidth() * unitScale;
-                    float y2 = y1 + region.getRegionHeight() * unitScale;
-
-                    float u1 = region.getU();
-                    float v1 = region.getV2();
-                    float u2 = region.getU2();
-                    float v2 = region.getV();
-
-                    vertices[X1] = x1;
-                    vertices[Y1] = y1;
-                    vertices[C1] = color;
-                    vertices[U1] = u1;
-                    vertices[V1] = v1;
-
-                    vertices[X2] = x1;
-                    vertices[Y2] = y2;
-                    vertices[C2] = color;
-                    vertices[U2] = u1;
-                    vertices[V2] = v2;
-
-                    vertices[X3] = x2;
-                    vertices[Y3] = y2;
-                    vertices[C3] = color;
-                    vertices[U3] = u2;
-                    vertices[V3] = v2;
-
-                    vertices[X4] = x2;
-                    vertices[Y4] = y1;
-                    vertices[C4] = color;
-                    vertices[U4] = u2;
-                    vertices[V4] = v1;
-
-                    if (flipX) {
-                        float temp = vertices[U1];
-                        vertices[U1] = vertices[U3];
-                        vertices[U3] = temp;
-                        temp = vertices[U2];
-                        vertices[U2] = vertices[U4];
-                        vertices[U4] = temp;
-                    }
-                    if (flipY) {
-                        float temp = vertices[V1];
-                        vertices[V1] = vertices[V3];
-                        vertices[V3] = temp;
-                        temp = vertices[V2];
-                        vertices[V2] = vertices[V4];
-                        vertices[V4] = temp;
-                    }
-                    if (rotations != 0) {
-                        switch (rotations) {
-                            case TiledMapTileLayer.Cell.ROTATE_90: {
-                                float tempV = vertices[V1];
-                                vertices[V1] = vertices[V2];
-                                vertices[V2] = vertices[V3];
-                                vertices[V3] = vertices[V4];
-                                vertices[V4] = tempV;
-
-                                float tempU = vertices[U1];
-                                vertices[U1] = vertices[U2];
-                                vertices[U2] = vertices[U3];
-                                vertices[U3] = vertices[U4];
-                                vertices[U4] = tempU;
-                                break;
-                            }
-                            case TiledMapTileLayer.Cell.ROTATE_180: {
-                                float tempU = vertices[U1];
-                                vertices[U1] = vertices[U3];
-                                vertices[U3] = tempU;
-                                tempU = vertices[U2];
-                                vertices[U2] = vertices[U4];
-                                vertices[U4] = tempU;
-                                float tempV = vertices[V1];
-                                vertices[V1] = vertices[V3];
-                                vertices[V3] = tempV;
-                                tempV = vertices[V2];
-                                vertices[V2] = vertices[V4];
-                                vertices[V4] = tempV;
-                                break;
-                            }
-                            case TiledMapTileLayer.Cell.ROTATE_270: {
-                                float tempV = vertices[V1];
-                                vertices[V1] = vertices[V4];
-                                vertices[V4] = vertices[V3];
-                                vertices[V3] = vertices[V2];
-                                vertices[V2] = tempV;
-
-                                float tempU = vertices[U1];
-                                vertices[U1] = vertices[U4];
-                                vertices[U4] = vertices[U3];
-                                vertices[U3] = vertices[U2];
-                                vertices[U2] = tempU;
-                                break;
-                            }
-                        }
-                    }
-                    batch.draw(region.getTexture(), vertices, 0, NUM_VERTICES);
+                    setCellVertices(cell, x, y, color);
+                    batch.draw(tile.getTextureRegion().getTexture(), vertices, 0, NUM_VERTICES);
                 }
                 x += layerTileWidth;
             }
@@ -166,6 +67,128 @@ public class OrthogonalTiledMapRendererBleeding extends OrthogonalTiledMapRender
         }
     }
 
+    protected void setCellVertices(TiledMapTileLayer.Cell cell, float x, float y, float color) {
+        final TiledMapTile tile = cell.getTile();
+        final boolean flipX = cell.getFlipHorizontally();
+        final boolean flipY = cell.getFlipVertically();
+        final int rotations = cell.getRotation();
+        final float[] vertices = this.vertices;
+
+        TextureRegion region = tile.getTextureRegion();
+
+        float x1 = x + tile.getOffsetX() * unitScale;
+        float y1 = y + tile.getOffsetY() * unitScale;
+        float x2 = x1 + region.getRegionWidth() * unitScale;
+        float y2 = y1 + region.getRegionHeight() * unitScale;
+
+        float u1 = region.getU();
+        float v1 = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+
+        vertices[X1] = x1;
+        vertices[Y1] = y1;
+        vertices[C1] = color;
+        vertices[U1] = u1;
+        vertices[V1] = v1;
+
+        vertices[X2] = x1;
+        vertices[Y2] = y2;
+        vertices[C2] = color;
+        vertices[U2] = u1;
+        vertices[V2] = v2;
+
+        vertices[X3] = x2;
+        vertices[Y3] = y2;
+        vertices[C3] = color;
+        vertices[U3] = u2;
+        vertices[V3] = v2;
+
+        vertices[X4] = x2;
+        vertices[Y4] = y1;
+        vertices[C4] = color;
+        vertices[U4] = u2;
+        vertices[V4] = v1;
+
+        if (flipX) {
+            float temp = vertices[U1];
+            vertices[U1] = vertices[U3];
+            vertices[U3] = temp;
+            temp = vertices[U2];
+            vertices[U2] = vertices[U4];
+            vertices[U4] = temp;
+        }
+        if (flipY) {
+            float temp = vertices[V1];
+            vertices[V1] = vertices[V3];
+            vertices[V3] = temp;
+            temp = vertices[V2];
+            vertices[V2] = vertices[V4];
+            vertices[V4] = temp;
+        }
+        if (rotations != 0) {
+            switch (rotations) {
+                case TiledMapTileLayer.Cell.ROTATE_90: {
+                    float tempV = vertices[V1];
+                    vertices[V1] = vertices[V2];
+                    vertices[V2] = vertices[V3];
+                    vertices[V3] = vertices[V4];
+                    vertices[V4] = tempV;
+
+                    float tempU = vertices[U1];
+                    vertices[U1] = vertices[U2];
+                    vertices[U2] = vertices[U3];
+                    vertices[U3] = vertices[U4];
+                    vertices[U4] = tempU;
+                    break;
+                }
+                case TiledMapTileLayer.Cell.ROTATE_180: {
+                    float tempU = vertices[U1];
+                    vertices[U1] = vertices[U3];
+                    vertices[U3] = tempU;
+                    tempU = vertices[U2];
+                    vertices[U2] = vertices[U4];
+                    vertices[U4] = tempU;
+                    float tempV = vertices[V1];
+                    vertices[V1] = vertices[V3];
+                    vertices[V3] = tempV;
+                    tempV = vertices[V2];
+                    vertices[V2] = vertices[V4];
+                    vertices[V4] = tempV;
+                    break;
+                }
+                case TiledMapTileLayer.Cell.ROTATE_270: {
+                    float tempV = vertices[V1];
+                    vertices[V1] = vertices[V4];
+                    vertices[V4] = vertices[V3];
+                    vertices[V3] = vertices[V2];
+                    vertices[V2] = tempV;
+
+                    float tempU = vertices[U1];
+                    vertices[U1] = vertices[U4];
+                    vertices[U4] = vertices[U3];
+                    vertices[U3] = vertices[U2];
+                    vertices[U2] = tempU;
+                    break;
+                }
+            }
+        }
+    }
+
+    public static void fixBleeding(TiledMap map) {
+        for (TiledMapTileSet tileSet : map.getTileSets()) {
+            for (TiledMapTile tile : tileSet) {
+                if (tile instanceof AnimatedTiledMapTile) {
+                    for (StaticTiledMapTile frame : ((AnimatedTiledMapTile) tile).getFrameTiles())
+                        fixBleeding(frame.getTextureRegion());
+                } else {
+                    fixBleeding(tile.getTextureRegion());
+                }
+            }
+        }
+    }
+
+    // idempotent, the region position and size round back to the same pixels
     public static void fixBleeding(TextureRegion region) {
         float fix = 0.01f;
         float x = region.getRegionX();
@@ -4,8 +4,6 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Pool;
 
 public class Vector2Pool extends Pool<Vector2> {
-    public static final Vector2Pool instance = new Vector2Pool();
-
     @Override
     protected Vector2 newObject() {
         return new Vector2();
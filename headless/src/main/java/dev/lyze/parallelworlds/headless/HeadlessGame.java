@@ -0,0 +1,29 @@
+package dev.lyze.parallelworlds.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.statics.Statics;
+
+public class HeadlessGame {
+    private static final Logger<HeadlessGame> logger = new Logger<>(HeadlessGame.class);
+
+    private static boolean booted;
+
+    public static void boot() {
+        if (booted)
+            return;
+
+        new HeadlessApplication(new ApplicationAdapter() { }, new HeadlessApplicationConfiguration());
+        Gdx.gl = Gdx.gl20 = NoopGL20.create();
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+
+        Statics.assets.getGame().load();
+        Statics.assets.getGame().finishAndConsume();
+
+        booted = true;
+    }
+}
@@ -0,0 +1,93 @@
+package dev.lyze.parallelworlds.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.StreamUtils;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.InputReplay;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.InputReplayIO;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class HeadlessLauncher {
+    private static final Logger<HeadlessLauncher> logger = new Logger<>(HeadlessLauncher.class);
+
+    private static final float TICK = 0.01f;
+
+    // args: [map or .pwreplay] [ticks] [levels stepped in parallel]
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        var mapPath = args.length > 0 ? args[0] : "Nsyse_Tutorial";
+        var ticks = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        var parallel = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        HeadlessGame.boot();
+
+        InputReplay replay = null;
+        if (mapPath.endsWith(InputReplayIO.EXTENSION)) {
+            var in = new DataInputStream(Gdx.files.local(mapPath).read(8192));
+            try {
+                replay = InputReplayIO.read(in);
+                ticks = args.length > 1 ? ticks : replay.getTickCount();
+            } finally {
+                StreamUtils.closeQuietly(in);
+            }
+        }
+
+        var levels = new ArrayList<HeadlessLevel>();
+        for (int i = 0; i < parallel; i++)
+            levels.add(replay == null ? new HeadlessLevel(mapPath) : new HeadlessLevel(replay));
+
+        var executor = Executors.newFixedThreadPool(parallel);
+        var steps = new ArrayList<Future<?>>();
+        var levelTicks = ticks;
+
+        var start = System.nanoTime();
+        for (HeadlessLevel level : levels) {
+            steps.add(executor.submit(() -> {
+                for (int i = 0; i < levelTicks; i++) {
+                    level.step(TICK);
+
+                    // a finished level only waits for the next screen, restart in place so every tick simulates something
+                    if (level.isFinished())
+                        level.restart();
+                }
+            }));
+        }
+        for (Future<?> step : steps)
+            step.get();
+        var seconds = (System.nanoTime() - start) / 1_000_000_000d;
+        executor.shutdown();
+
+        var totalTicks = (long) ticks * parallel;
+        var restarts = levels.stream().mapToInt(HeadlessLevel::getRestarts).sum();
+        System.out.println(String.format("%s: %d levels x %d ticks in %.3fs (%.0f ticks/s, %d restarts)", mapPath, parallel, ticks, seconds, totalTicks / seconds, restarts));
+
+        // same seed and input, any difference means the levels still share state somewhere
+        for (int i = 1; i < levels.size(); i++) {
+            if (!sameState(levels.get(0), levels.get(i)))
+                System.out.println("Level " + i + " diverged from level 0");
+        }
+
+        levels.forEach(HeadlessLevel::dispose);
+        System.exit(0);
+    }
+
+    private static boolean sameState(HeadlessLevel a, HeadlessLevel b) {
+        var levelA = a.getLevel();
+        var levelB = b.getLevel();
+
+        if (levelA.getTick() != levelB.getTick() || levelA.getCoinCount() != levelB.getCoinCount() || levelA.getEntityCount() != levelB.getEntityCount())
+            return false;
+
+        for (int i = 0; i < levelA.getPlayers().getPlayers().size(); i++) {
+            if (!levelA.getPlayers().getPlayers().get(i).getPosition().equals(levelB.getPlayers().getPlayers().get(i).getPosition()))
+                return false;
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.lyze.parallelworlds.headless;
+
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.GameContext;
+import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.LevelHost;
+import dev.lyze.parallelworlds.screens.game.Map;
+import dev.lyze.parallelworlds.screens.game.audio.MutedLevelAudio;
+import dev.lyze.parallelworlds.screens.game.gamepads.VirtualGamepadGroup;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.InputReplay;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.ReplayGamepad;
+import dev.lyze.parallelworlds.statics.Statics;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+public class HeadlessLevel implements LevelHost {
+    private static final Logger<HeadlessLevel> logger = new Logger<>(HeadlessLevel.class);
+
+    @Getter
+    private final String mapPath;
+
+    @Getter
+    private final Level level;
+
+    @Getter
+    private final ArrayList<VirtualGamepadGroup> gamepads = new ArrayList<>();
+
+    @Getter
+    private int restarts;
+    @Getter
+    private String requestedLevel;
+    @Getter
+    private boolean finished;
+
+    public HeadlessLevel(String mapPath) {
+        this(mapPath, 0);
+    }
+
+    public HeadlessLevel(String mapPath, long seed) {
+        this(mapPath, seed, map -> { });
+    }
+
+    // configure runs before the map sets up its colliders
+    public HeadlessLevel(String mapPath, long seed, Consumer<Map> configure) {
+        this.mapPath = mapPath;
+
+        // the asset manager and the shared tiled map are only touched while setting up, stepping only touches this level
+        synchronized (Statics.assets) {
+            level = new Level(new GameContext(Statics.assets, Statics.thinkScheduler, Statics.islandScheduler), this, Statics.assets.getGame().get(mapPath), new MutedLevelAudio(), seed);
+            level.resize(1280, 720);
+            configure.accept(level.getMap());
+            level.initialize();
+        }
+
+        level.getPlayers().getPlayers().forEach(p -> gamepads.add(new VirtualGamepadGroup(p)));
+    }
+
+    // same map and seed as the recording, every player is driven by its recorded input
+    public HeadlessLevel(InputReplay replay) {
+        this(replay.getMapPath(), replay.getSeed());
+
+        for (int i = 0; i < gamepads.size(); i++)
+            gamepads.get(i).add(new ReplayGamepad(level.getPlayers().getPlayers().get(i), i, replay));
+    }
+
+    public void step(float delta) {
+        gamepads.forEach(g -> g.update(delta));
+        level.update(delta);
+        gamepads.forEach(g -> g.reset(delta));
+    }
+
+    // in place restart after a death or an exit, call it between steps
+    public void restart() {
+        finished = false;
+        requestedLevel = null;
+        level.restart();
+    }
+
+    @Override
+    public void restartLevel() {
+        restarts++;
+        finished = true;
+    }
+
+    @Override
+    public void nextLevel(String mapPath) {
+        requestedLevel = mapPath;
+        finished = true;
+    }
+
+    public void dispose() {
+        level.dispose();
+    }
+}
@@ -0,0 +1,43 @@
+package dev.lyze.parallelworlds.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+// stands in for gl when the headless game loads the atlases, every call does nothing and answers zero, false or an empty string
+final class NoopGL20 {
+    private NoopGL20() {
+    }
+
+    static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] { GL20.class }, NoopGL20::answer);
+    }
+
+    private static Object answer(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "NoopGL20";
+            }
+        }
+
+        var type = method.getReturnType();
+        if (type == boolean.class)
+            return false;
+        if (type == int.class)
+            return 0;
+        if (type == float.class)
+            return 0f;
+        if (type == long.class)
+            return 0L;
+        if (type == String.class)
+            return "";
+
+        return null;
+    }
+}
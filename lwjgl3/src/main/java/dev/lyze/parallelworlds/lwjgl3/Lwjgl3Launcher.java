@@ -3,10 +3,20 @@ package dev.lyze.parallelworlds.lwjgl3;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import dev.lyze.parallelworlds.ParallelWorlds;
+import dev.lyze.parallelworlds.screens.game.ForkJoinIslandScheduler;
+import dev.lyze.parallelworlds.screens.game.ForkJoinThinkScheduler;
+import dev.lyze.parallelworlds.statics.Statics;
+
+import java.util.concurrent.ForkJoinPool;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
 	public static void main(String[] args) {
+		if (!Boolean.getBoolean("parallelworlds.serialThink"))
+			Statics.thinkScheduler = new ForkJoinThinkScheduler(ForkJoinPool.commonPool());
+		if (!Boolean.getBoolean("parallelworlds.serialIslands"))
+			Statics.islandScheduler = new ForkJoinIslandScheduler(ForkJoinPool.commonPool());
+
 		createApplication();
 	}
 
@@ -0,0 +1,41 @@
+package dev.lyze.parallelworlds.soak;
+
+import lombok.Data;
+
+@Data
+public class MapSoak {
+    private final String mapPath;
+    private String nextMapPath;
+    private boolean replayed;
+
+    private int ticks;
+    private double seconds;
+
+    private long allocatedBytes;
+    private long peakHeapBytes;
+    private long queries;
+    private long fullUpdates;
+
+    private int peakEntities;
+    private int endEntities;
+    private int endWorldItems;
+
+    private int deaths;
+    private int exits;
+
+    public double getTicksPerSecond() {
+        return ticks / seconds;
+    }
+
+    public double getAllocatedMegabytesPerSecond() {
+        return allocatedBytes / 1024d / 1024d / seconds;
+    }
+
+    public double getQueriesPerTick() {
+        return queries / (double) ticks;
+    }
+
+    public double getFullUpdatesPerTick() {
+        return fullUpdates / (double) ticks;
+    }
+}
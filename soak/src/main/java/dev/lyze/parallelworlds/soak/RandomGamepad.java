@@ -0,0 +1,46 @@
+package dev.lyze.parallelworlds.soak;
+
+import com.badlogic.gdx.math.RandomXS128;
+import dev.lyze.parallelworlds.screens.game.entities.players.Player;
+import dev.lyze.parallelworlds.screens.game.gamepads.VirtualGamepad;
+
+// holds a random direction for a while and jumps every now and then, leaning to the right where the exits usually are
+public class RandomGamepad extends VirtualGamepad {
+    private final RandomXS128 random;
+
+    private int holdTicks;
+
+    public RandomGamepad(Player player, int playerNumber, long seed) {
+        super(player, playerNumber);
+
+        random = new RandomXS128(seed + playerNumber);
+    }
+
+    @Override
+    public void update(float delta) {
+        if (holdTicks-- <= 0) {
+            holdTicks = 20 + random.nextInt(180);
+
+            var direction = random.nextFloat();
+            leftPressed = direction < 0.3f ? 1 : 0;
+            rightPressed = direction > 0.4f ? 1 : 0;
+        }
+
+        jumpJustPressed = random.nextFloat() < 0.02f;
+    }
+
+    @Override
+    public void reset(float delta) {
+        jumpJustPressed = false;
+    }
+
+    @Override
+    public void vibrate(int durationInMs, float strength) {
+
+    }
+
+    @Override
+    public void dispose() {
+
+    }
+}
@@ -0,0 +1,154 @@
+package dev.lyze.parallelworlds.soak;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.StreamUtils;
+import dev.lyze.parallelworlds.headless.HeadlessGame;
+import dev.lyze.parallelworlds.headless.HeadlessLevel;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.Island;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.InputReplay;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.InputReplayIO;
+import dev.lyze.parallelworlds.screens.game.gamepads.replay.ReplayGamepad;
+import dev.lyze.parallelworlds.statics.Statics;
+import dev.lyze.parallelworlds.statics.assets.GameAssets;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+
+// plays every map of the level chain uncapped with random or recorded input, args: [ticks per map] [seed]
+public class SoakRunner {
+    private static final Logger<SoakRunner> logger = new Logger<>(SoakRunner.class);
+
+    private static final float TICK = 0.01f;
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final ArrayList<MemoryPoolMXBean> heapPools = new ArrayList<>();
+
+    private final int ticksPerMap;
+    private final long seed;
+
+    public static void main(String[] args) throws IOException {
+        // an hour of play per map by default
+        var ticksPerMap = args.length > 0 ? Integer.parseInt(args[0]) : 360_000;
+        var seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        HeadlessGame.boot();
+
+        new SoakRunner(ticksPerMap, seed).run();
+        System.exit(0);
+    }
+
+    public SoakRunner(int ticksPerMap, long seed) {
+        this.ticksPerMap = ticksPerMap;
+        this.seed = seed;
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                heapPools.add(pool);
+        }
+    }
+
+    public void run() throws IOException {
+        var visited = new ObjectSet<String>();
+        var totalTicks = 0L;
+        var totalSeconds = 0d;
+
+        System.out.println(String.format("%-16s %6s %10s %10s %10s %12s %10s %8s %9s %9s %7s %6s", "map", "input", "ticks", "ticks/s", "alloc mb/s", "peak heap mb", "queries/t", "full/t", "entities", "items", "deaths", "exits"));
+
+        for (var mapPath = GameAssets.FIRST_MAP; mapPath != null && visited.add(mapPath); ) {
+            var soak = soak(mapPath);
+            totalTicks += soak.getTicks();
+            totalSeconds += soak.getSeconds();
+
+            System.out.println(String.format("%-16s %6s %10d %10.0f %10.2f %12.1f %10.2f %8.1f %4d/%-4d %9d %7d %6d",
+                    soak.getMapPath(), soak.isReplayed() ? "replay" : "random", soak.getTicks(), soak.getTicksPerSecond(), soak.getAllocatedMegabytesPerSecond(),
+                    soak.getPeakHeapBytes() / 1024d / 1024d, soak.getQueriesPerTick(), soak.getFullUpdatesPerTick(), soak.getPeakEntities(), soak.getEndEntities(), soak.getEndWorldItems(),
+                    soak.getDeaths(), soak.getExits()));
+
+            mapPath = soak.getNextMapPath();
+        }
+
+        System.out.println(String.format("%d maps, %d ticks (%.1f hours of play) in %.1fs", visited.size, totalTicks, totalTicks * TICK / 3600, totalSeconds));
+    }
+
+    private MapSoak soak(String mapPath) throws IOException {
+        var soak = new MapSoak(mapPath);
+
+        var replay = readReplay(mapPath);
+        var headlessLevel = new HeadlessLevel(mapPath, replay == null ? seed : replay.getSeed());
+        var level = headlessLevel.getLevel();
+        soak.setReplayed(replay != null);
+        soak.setNextMapPath(level.getMap().getNextLevel());
+        Statics.assets.getGame().retain(mapPath, level.getMap().getNextLevel());
+
+        var replayGamepads = new ArrayList<ReplayGamepad>();
+        for (int i = 0; i < headlessLevel.getGamepads().size(); i++) {
+            var player = level.getPlayers().getPlayers().get(i);
+
+            if (replay != null) {
+                var gamepad = new ReplayGamepad(player, i, replay);
+                replayGamepads.add(gamepad);
+                headlessLevel.getGamepads().get(i).add(gamepad);
+            } else {
+                headlessLevel.getGamepads().get(i).add(new RandomGamepad(player, i, seed));
+            }
+        }
+
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        var threadId = Thread.currentThread().getId();
+        var allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        var queriesBefore = level.getQueryCount();
+        var finishes = 0;
+        var fullUpdates = 0L;
+
+        var start = System.nanoTime();
+        for (int tick = 0; tick < ticksPerMap; tick++) {
+            headlessLevel.step(TICK);
+            soak.setPeakEntities(Math.max(soak.getPeakEntities(), level.getEntityCount()));
+            for (Island island : level.getIslands())
+                fullUpdates += island.getActivity().getFullCount();
+
+            // keep soaking the same map, deaths and exits restart it in place
+            if (headlessLevel.isFinished() || replayGamepads.size() > 0 && replayGamepads.get(0).isFinished()) {
+                finishes += headlessLevel.isFinished() ? 1 : 0;
+                headlessLevel.restart();
+                replayGamepads.forEach(g -> g.seek(0));
+            }
+        }
+        soak.setSeconds((System.nanoTime() - start) / 1_000_000_000d);
+
+        soak.setTicks(ticksPerMap);
+        soak.setAllocatedBytes(threads.getThreadAllocatedBytes(threadId) - allocatedBefore);
+        soak.setQueries(level.getQueryCount() - queriesBefore);
+        soak.setFullUpdates(fullUpdates);
+        soak.setPeakHeapBytes(heapPools.stream().mapToLong(p -> p.getPeakUsage().getUsed()).sum());
+        soak.setEndEntities(level.getEntityCount());
+        soak.setEndWorldItems(level.countWorldItems());
+        soak.setDeaths(headlessLevel.getRestarts());
+        soak.setExits(finishes - headlessLevel.getRestarts());
+
+        headlessLevel.dispose();
+        return soak;
+    }
+
+    // a replay saved in game with F9 is used as the script for its map
+    private InputReplay readReplay(String mapPath) throws IOException {
+        var file = Gdx.files.local("replays/" + mapPath + InputReplayIO.EXTENSION);
+        if (!file.exists())
+            return null;
+
+        var in = new DataInputStream(file.read(8192));
+        try {
+            return InputReplayIO.read(in);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package dev.lyze.parallelworlds.tools;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.StreamUtils;
+import dev.lyze.parallelworlds.headless.HeadlessGame;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.GameContext;
+import dev.lyze.parallelworlds.screens.game.Level;
+import dev.lyze.parallelworlds.screens.game.LevelHost;
+import dev.lyze.parallelworlds.screens.game.audio.MutedLevelAudio;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptorIO;
+import dev.lyze.parallelworlds.statics.Statics;
+import dev.lyze.parallelworlds.statics.utils.CompiledMapLoader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// runs the level setup once per map at build time and writes the result to the output directory, build/compiled-maps by default
+public class MapCompiler implements LevelHost {
+    private static final Logger<MapCompiler> logger = new Logger<>(MapCompiler.class);
+
+    public static void main(String[] args) throws IOException {
+        var directory = args.length > 0 ? args[0] : "maps";
+
+        HeadlessGame.boot();
+
+        // a build directory by default, compiled maps in the assets would shadow later tmx edits
+        var output = args.length > 1 ? Gdx.files.absolute(args[1]) : Gdx.files.local("build/compiled-maps/maps");
+        output.mkdirs();
+
+        var compiler = new MapCompiler();
+        for (FileHandle file : Gdx.files.local(directory).list(".tmx"))
+            compiler.compile(file, output);
+
+        System.exit(0);
+    }
+
+    private void compile(FileHandle file, FileHandle directory) throws IOException {
+        var start = System.nanoTime();
+
+        var map = new TmxMapLoader().load(file.path());
+        var descriptor = TiledMapConverter.toDescriptor(map);
+
+        var level = new Level(new GameContext(Statics.assets), this, map, new MutedLevelAudio());
+        level.resize(1280, 720);
+        level.initialize();
+
+        descriptor.setColliders(level.getMap().getColliders());
+        descriptor.setTileColliderCount(level.getMap().getTileColliderCount());
+        descriptor.setSpawns(level.getMap().getSpawns());
+
+        var output = directory.child(file.nameWithoutExtension() + CompiledMapLoader.EXTENSION);
+        var out = new DataOutputStream(new BufferedOutputStream(output.write(false)));
+        try {
+            MapDescriptorIO.write(descriptor, out);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+
+        level.dispose();
+        map.dispose();
+
+        System.out.println(file.name() + " -> " + output.name() + " (" + file.length() / 1024 + "kb -> " + output.length() / 1024 + "kb, " + descriptor.getColliders().size + " colliders, " + descriptor.getSpawns().size + " spawns) in " + (System.nanoTime() - start) / 1_000_000 + "ms");
+    }
+
+    @Override
+    public void restartLevel() {
+    }
+
+    @Override
+    public void nextLevel(String mapPath) {
+    }
+}
@@ -0,0 +1,137 @@
+package dev.lyze.parallelworlds.tools;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import dev.lyze.parallelworlds.logger.Logger;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.LayerDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.MapDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.TileDescriptor;
+import dev.lyze.parallelworlds.screens.game.map.descriptor.TileSetDescriptor;
+
+// turns a map loaded by the TmxMapLoader into a descriptor, has to run before the level touches the layers
+public class TiledMapConverter {
+    private static final Logger<TiledMapConverter> logger = new Logger<>(TiledMapConverter.class);
+
+    public static MapDescriptor toDescriptor(TiledMap map) {
+        var descriptor = new MapDescriptor();
+        descriptor.getProperties().putAll(map.getProperties());
+
+        for (TiledMapTileSet tileSet : map.getTileSets())
+            descriptor.getTileSets().add(toDescriptor(tileSet));
+
+        for (MapLayer layer : map.getLayers())
+            descriptor.getLayers().add(toDescriptor(layer));
+
+        return descriptor;
+    }
+
+    private static TileSetDescriptor toDescriptor(TiledMapTileSet tileSet) {
+        var properties = tileSet.getProperties();
+        var imageSource = properties.get("imagesource", String.class);
+        if (imageSource == null)
+            throw new GdxRuntimeException("Tileset " + tileSet.getName() + " is an image collection, only single image tilesets can be compiled");
+
+        var descriptor = new TileSetDescriptor();
+        descriptor.setName(tileSet.getName());
+        descriptor.setFirstGid(properties.get("firstgid", Integer.class));
+        descriptor.setTileWidth(properties.get("tilewidth", Integer.class));
+        descriptor.setTileHeight(properties.get("tileheight", Integer.class));
+        descriptor.setSpacing(properties.get("spacing", 0, Integer.class));
+        descriptor.setMargin(properties.get("margin", 0, Integer.class));
+        descriptor.setImageSource(imageSource);
+        descriptor.setImageWidth(properties.get("imagewidth", Integer.class));
+        descriptor.setImageHeight(properties.get("imageheight", Integer.class));
+        descriptor.getProperties().putAll(properties);
+
+        var offsetRead = false;
+        for (TiledMapTile tile : tileSet) {
+            if (!offsetRead && !(tile instanceof AnimatedTiledMapTile)) {
+                descriptor.setOffsetX(tile.getOffsetX());
+                descriptor.setOffsetY(tile.getOffsetY());
+                offsetRead = true;
+            }
+
+            var tileDescriptor = toDescriptor(tile, descriptor.getFirstGid());
+            if (tileDescriptor != null)
+                descriptor.getTiles().add(tileDescriptor);
+        }
+
+        return descriptor;
+    }
+
+    // null for plain tiles, they are rebuilt from the tileset image alone
+    private static TileDescriptor toDescriptor(TiledMapTile tile, int firstGid) {
+        var animated = tile instanceof AnimatedTiledMapTile;
+        if (!animated && !tile.getProperties().getKeys().hasNext() && tile.getObjects().getCount() == 0)
+            return null;
+
+        var descriptor = new TileDescriptor();
+        descriptor.setId(tile.getId() - firstGid);
+        descriptor.getProperties().putAll(tile.getProperties());
+
+        for (MapObject object : tile.getObjects()) {
+            if (object instanceof RectangleMapObject)
+                descriptor.getColliders().add(new Rectangle(((RectangleMapObject) object).getRectangle()));
+            else
+                logger.logInfo("Skipping non rectangle object of tile " + tile.getId());
+        }
+
+        if (animated) {
+            var animatedTile = (AnimatedTiledMapTile) tile;
+            var frameTiles = animatedTile.getFrameTiles();
+
+            var frames = new int[frameTiles.length];
+            for (int i = 0; i < frameTiles.length; i++)
+                frames[i] = frameTiles[i].getId() - firstGid;
+
+            descriptor.setAnimationFrames(frames);
+            descriptor.setAnimationIntervals(animatedTile.getAnimationIntervals().clone());
+        }
+
+        return descriptor;
+    }
+
+    private static LayerDescriptor toDescriptor(MapLayer layer) {
+        var descriptor = new LayerDescriptor();
+        descriptor.setTileLayer(layer instanceof TiledMapTileLayer);
+        descriptor.setName(layer.getName());
+        descriptor.setVisible(layer.isVisible());
+        descriptor.setOpacity(layer.getOpacity());
+        descriptor.setOffsetX(layer.getOffsetX());
+        descriptor.setOffsetY(layer.getOffsetY());
+        descriptor.getProperties().putAll(layer.getProperties());
+
+        if (layer instanceof TiledMapTileLayer) {
+            var tileLayer = (TiledMapTileLayer) layer;
+            descriptor.setWidth(tileLayer.getWidth());
+            descriptor.setHeight(tileLayer.getHeight());
+            descriptor.setTileWidth((int) tileLayer.getTileWidth());
+            descriptor.setTileHeight((int) tileLayer.getTileHeight());
+
+            var cells = new int[tileLayer.getWidth() * tileLayer.getHeight()];
+            for (int y = 0; y < tileLayer.getHeight(); y++)
+                for (int x = 0; x < tileLayer.getWidth(); x++)
+                    cells[y * tileLayer.getWidth() + x] = LayerDescriptor.pack(tileLayer.getCell(x, y));
+            descriptor.setCells(cells);
+
+            return descriptor;
+        }
+
+        for (MapObject object : layer.getObjects()) {
+            if (object instanceof RectangleMapObject)
+                descriptor.getObjects().add((RectangleMapObject) object);
+            else
+                logger.logInfo("Skipping non rectangle object " + object.getName() + " of layer " + layer.getName());
+        }
+
+        return descriptor;
+    }
+}